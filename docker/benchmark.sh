@@ -0,0 +1,78 @@
+#!/usr/bin/env sh
+# Runs the same wrk load against the application on platform threads and on virtual threads
+# and writes the results as a Markdown table.
+set -eu
+
+COMPOSE_FILE="$(dirname "$0")/docker-compose-benchmark.yml"
+BASE_URL="http://localhost:8080"
+CONNECTIONS="${BENCHMARK_CONNECTIONS:-100 1000 5000}"
+DURATION="${BENCHMARK_DURATION:-60s}"
+WARMUP="${BENCHMARK_WARMUP:-15s}"
+THREADS="${BENCHMARK_THREADS:-8}"
+RESULTS="${BENCHMARK_RESULTS:-benchmark-results.md}"
+WRK_IMAGE="${BENCHMARK_WRK_IMAGE:-williamyeh/wrk}"
+USERNAME="benchmark-user"
+PASSWORD="benchmark-password"
+
+compose() {
+    docker compose --file "$COMPOSE_FILE" "$@"
+}
+
+wait_for_application() {
+    attempts=0
+    until curl --silent --fail "$BASE_URL/actuator/health" > /dev/null; do
+        attempts=$((attempts + 1))
+        if [ "$attempts" -gt 90 ]; then
+            echo "The application did not become healthy" >&2
+            exit 1
+        fi
+        sleep 2
+    done
+}
+
+json_value() {
+    sed -n "s/.*\"$1\":\"\{0,1\}\([^\",}]*\).*/\1/p"
+}
+
+wrk() {
+    docker run --rm --network news-api-benchmark --ulimit nofile=65535:65535 "$WRK_IMAGE" \
+        --threads "$THREADS" --connections "$1" --duration "$2" --latency \
+        --header "Authorization: Bearer $ACCESS_TOKEN" "http://benchmark_news_api:8080$3"
+}
+
+trap 'compose down --volumes' EXIT
+
+compose up --detach --build postgres
+echo "| Threads | Endpoint | Connections | Requests/sec | p50 | p99 | Errors |" > "$RESULTS"
+echo "|---------|----------|-------------|--------------|-----|-----|--------|" >> "$RESULTS"
+
+for mode in platform virtual; do
+    if [ "$mode" = virtual ]; then
+        VIRTUAL_THREADS_ENABLED=true compose up --detach --build --force-recreate news-api
+    else
+        VIRTUAL_THREADS_ENABLED=false compose up --detach --build --force-recreate news-api
+    fi
+    wait_for_application
+
+    if [ -z "${USER_ID:-}" ]; then
+        USER_ID=$(curl --silent --fail --header "Content-Type: application/json" \
+            --data "{\"username\":\"$USERNAME\",\"email\":\"$USERNAME@example.com\",\"password\":\"$PASSWORD\",\"roles\":[\"USER\"]}" \
+            "$BASE_URL/api/v2/user/sign-up" | json_value id)
+    fi
+    ACCESS_TOKEN=$(curl --silent --fail --request POST --user "$USERNAME:$PASSWORD" "$BASE_URL/api/v2/user/token" \
+        | json_value accessToken)
+
+    for endpoint in /api/v2/news/1 "/api/v2/user/$USER_ID"; do
+        for connections in $CONNECTIONS; do
+            wrk "$connections" "$WARMUP" "$endpoint" > /dev/null
+            output=$(wrk "$connections" "$DURATION" "$endpoint")
+            requests=$(echo "$output" | awk '/Requests\/sec/ {print $2}')
+            p50=$(echo "$output" | awk '$1 == "50%" {print $2}')
+            p99=$(echo "$output" | awk '$1 == "99%" {print $2}')
+            errors=$(echo "$output" | awk '/Non-2xx|Socket errors/ {printf "%s ", $0}')
+            echo "| $mode | $endpoint | $connections | $requests | $p50 | $p99 | ${errors:-none} |" >> "$RESULTS"
+        done
+    done
+done
+
+cat "$RESULTS"
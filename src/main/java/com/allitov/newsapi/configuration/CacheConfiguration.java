@@ -0,0 +1,51 @@
+package com.allitov.newsapi.configuration;
+
+import com.allitov.newsapi.util.CacheNames;
+import com.allitov.newsapi.web.cache.EncodedJson;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfiguration {
+
+    @Bean
+    public Ticker ticker() {
+        return Ticker.systemTicker();
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> newsJsonCacheCustomizer(
+            @Value("${app.news.json-cache.maximum-weight-bytes}") long maximumWeightBytes,
+            @Value("${app.news.json-cache.ttl}") Duration ttl) {
+        return cacheManager -> cacheManager.registerCustomCache(CacheNames.NEWS_JSON, Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Object key, Object value) -> ((EncodedJson) value).size())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+    }
+
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof CaffeineCacheManager cacheManager
+                        ? new TransactionAwareCacheManagerProxy(cacheManager)
+                        : bean;
+            }
+        };
+    }
+}
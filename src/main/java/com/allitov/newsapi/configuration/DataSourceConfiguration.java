@@ -0,0 +1,75 @@
+package com.allitov.newsapi.configuration;
+
+import com.allitov.newsapi.datasource.ReadWriteRoutingDataSource;
+import com.allitov.newsapi.datasource.ReadYourWritesFilter;
+import com.allitov.newsapi.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class DataSourceConfiguration {
+
+    private static final String REPLICA_NAME_PREFIX = "replica-";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties properties,
+                                                        HikariDataSource primaryDataSource,
+                                                        @Value("${app.datasource.replica-urls}") List<String> urls,
+                                                        @Value("${app.datasource.replica-pool-size}") int poolSize) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = REPLICA_NAME_PREFIX + (i + 1);
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i).trim())
+                    .build();
+            replica.setPoolName(name);
+            replica.setSchema(primaryDataSource.getSchema());
+            replica.setConnectionInitSql(primaryDataSource.getConnectionInitSql());
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replicas.put(name, replica);
+        }
+
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadWriteRoutingDataSource routingDataSource,
+                                               @Value("${app.datasource.replica-max-lag}") Duration maxLag) {
+        return new ReplicaLagMonitor(routingDataSource, maxLag);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${app.datasource.read-your-writes-window}") Duration stickiness) {
+        return new ReadYourWritesFilter(stickiness);
+    }
+}
@@ -0,0 +1,18 @@
+package com.allitov.newsapi.configuration;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class FlywayConfiguration {
+
+    private static final String POSTGRESQL_TRANSACTIONAL_LOCK = "flyway.postgresql.transactional.lock";
+
+    @Bean
+    public FlywayConfigurationCustomizer nonTransactionalLockCustomizer() {
+        return configuration -> configuration.configuration(Map.of(POSTGRESQL_TRANSACTIONAL_LOCK, "false"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.allitov.newsapi.configuration;
+
+import com.allitov.newsapi.util.CacheNames;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class HibernateCacheConfiguration {
+
+    private static final String CACHE_MANAGER_URI_PREFIX = "news-api:hibernate-cache-";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.jpa.cache.news-category.maximum-size}") long newsCategoryMaximumSize,
+            @Value("${app.jpa.cache.news-category.ttl}") Duration newsCategoryTtl,
+            @Value("${app.jpa.cache.news-category-queries.maximum-size}") long newsCategoryQueriesMaximumSize,
+            @Value("${app.jpa.cache.news-category-queries.ttl}") Duration newsCategoryQueriesTtl,
+            @Value("${app.jpa.cache.user.maximum-size}") long userMaximumSize,
+            @Value("${app.jpa.cache.user.ttl}") Duration userTtl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create(CACHE_MANAGER_URI_PREFIX + UUID.randomUUID()),
+                        getClass().getClassLoader());
+        cacheManager.createCache(CacheNames.NEWS_CATEGORY_ENTITY,
+                boundedConfiguration(newsCategoryMaximumSize, newsCategoryTtl));
+        cacheManager.createCache(CacheNames.NEWS_CATEGORY_QUERIES,
+                boundedConfiguration(newsCategoryQueriesMaximumSize, newsCategoryQueriesTtl));
+        cacheManager.createCache(CacheNames.USER_ENTITY, boundedConfiguration(userMaximumSize, userTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                boundedConfiguration(newsCategoryQueriesMaximumSize, newsCategoryQueriesTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private CaffeineConfiguration<Object, Object> boundedConfiguration(long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+
+        return configuration;
+    }
+}
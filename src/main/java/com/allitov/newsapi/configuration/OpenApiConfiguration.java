@@ -2,6 +2,7 @@ package com.allitov.newsapi.configuration;
 
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
+import io.swagger.v3.oas.annotations.security.SecuritySchemes;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.servers.Server;
@@ -11,11 +12,19 @@ import org.springframework.context.annotation.Configuration;
 import java.util.List;
 
 @Configuration
-@SecurityScheme(
-        type = SecuritySchemeType.HTTP,
-        name = "Basic authorisation",
-        scheme = "basic"
-)
+@SecuritySchemes({
+        @SecurityScheme(
+                type = SecuritySchemeType.HTTP,
+                name = "Basic authorisation",
+                scheme = "basic"
+        ),
+        @SecurityScheme(
+                type = SecuritySchemeType.HTTP,
+                name = "Bearer authorisation",
+                scheme = "bearer",
+                bearerFormat = "JWT"
+        )
+})
 public class OpenApiConfiguration {
 
     @Bean
@@ -0,0 +1,19 @@
+package com.allitov.newsapi.configuration;
+
+import io.r2dbc.spi.Option;
+import org.springframework.boot.autoconfigure.r2dbc.ConnectionFactoryOptionsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class R2dbcConfiguration {
+
+    private static final Option<Map<String, String>> OPTIONS = Option.valueOf("options");
+
+    @Bean
+    public ConnectionFactoryOptionsBuilderCustomizer utcSessionTimeZoneCustomizer() {
+        return builder -> builder.option(OPTIONS, Map.of("TimeZone", "UTC"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.allitov.newsapi.configuration;
+
+import com.allitov.newsapi.exception.ExceptionMessage;
+import com.allitov.newsapi.exception.InvalidTokenException;
+import com.allitov.newsapi.model.data.RoleType;
+import com.allitov.newsapi.security.TokenService;
+import com.allitov.newsapi.web.dto.response.error.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfiguration {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Bean
+    public ReactiveAuthenticationManager tokenAuthenticationManager(TokenService tokenService) {
+        return authentication -> Mono.fromCallable(
+                        () -> tokenService.authenticate(authentication.getCredentials().toString()))
+                .<Authentication>map(userDetails -> UsernamePasswordAuthenticationToken.authenticated(
+                        userDetails, null, userDetails.getAuthorities()))
+                .onErrorMap(InvalidTokenException.class, e -> new BadCredentialsException(e.getMessage(), e));
+    }
+
+    @Bean
+    public SecurityWebFilterChain reactiveFilterChain(ServerHttpSecurity httpSecurity,
+                                                      ReactiveAuthenticationManager tokenAuthenticationManager,
+                                                      ObjectMapper objectMapper) {
+        ServerAuthenticationEntryPoint authenticationEntryPoint = (exchange, e) -> writeError(
+                exchange.getResponse(), HttpStatus.UNAUTHORIZED, ExceptionMessage.AUTHENTICATION_FAILURE, objectMapper);
+
+        AuthenticationWebFilter tokenAuthenticationFilter = new AuthenticationWebFilter(tokenAuthenticationManager);
+        tokenAuthenticationFilter.setServerAuthenticationConverter(this::bearerToken);
+        tokenAuthenticationFilter.setAuthenticationFailureHandler(
+                new ServerAuthenticationEntryPointFailureHandler(authenticationEntryPoint));
+
+        return httpSecurity.authorizeExchange(exchange -> exchange
+                        .pathMatchers("/actuator/health").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/api/v2/news/**", "/api/v2/comment/**").hasAnyAuthority(
+                                RoleType.USER.name(),
+                                RoleType.MODERATOR.name(),
+                                RoleType.ADMIN.name()
+                        )
+                        .anyExchange().denyAll())
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .addFilterAt(tokenAuthenticationFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .exceptionHandling(spec -> spec
+                        .authenticationEntryPoint(authenticationEntryPoint)
+                        .accessDeniedHandler((exchange, e) -> writeError(
+                                exchange.getResponse(), HttpStatus.FORBIDDEN, ExceptionMessage.ACCESS_DENIED,
+                                objectMapper)))
+                .build();
+    }
+
+    private Mono<Authentication> bearerToken(ServerWebExchange exchange) {
+        return Mono.justOrEmpty(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .filter(authorization -> authorization.startsWith(BEARER_PREFIX))
+                .map(authorization -> authorization.substring(BEARER_PREFIX.length()))
+                .map(token -> UsernamePasswordAuthenticationToken.unauthenticated(token, token));
+    }
+
+    private Mono<Void> writeError(ServerHttpResponse response,
+                                  HttpStatus status,
+                                  String message,
+                                  ObjectMapper objectMapper) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            DataBuffer body = response.bufferFactory().wrap(objectMapper.writeValueAsBytes(new ErrorResponse(message)));
+
+            return response.writeWith(Mono.just(body));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+}
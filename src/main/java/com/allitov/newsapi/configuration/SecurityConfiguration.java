@@ -1,56 +1,88 @@
 package com.allitov.newsapi.configuration;
 
 import com.allitov.newsapi.model.data.RoleType;
+import com.allitov.newsapi.security.BruteForceGuardAuthenticationProvider;
+import com.allitov.newsapi.security.CachingAuthenticationProvider;
+import com.allitov.newsapi.security.HashingPasswordEncoder;
+import com.allitov.newsapi.security.KnownUsernames;
+import com.allitov.newsapi.security.LoginAttempts;
+import com.allitov.newsapi.security.PasswordHasher;
+import com.allitov.newsapi.security.RateLimit;
+import com.allitov.newsapi.security.RateLimitFilter;
+import com.allitov.newsapi.security.RateLimitRule;
+import com.allitov.newsapi.security.TokenAuthenticationFilter;
+import com.allitov.newsapi.security.TokenService;
+import com.allitov.newsapi.security.VerifiedCredentialsCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfiguration {
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    private static final Duration RATE_LIMIT_IDLE_TIMEOUT = Duration.ofMinutes(10);
 
     @Bean
-    public AuthenticationManager authenticationManager(HttpSecurity httpSecurity,
-                                                       UserDetailsService userDetailsService,
-                                                       PasswordEncoder passwordEncoder) throws Exception {
-        DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider(passwordEncoder);
+    public AuthenticationManager authenticationManager(UserDetailsService userDetailsService,
+                                                       UserDetailsPasswordService userDetailsPasswordService,
+                                                       PasswordEncoder passwordEncoder,
+                                                       PasswordHasher passwordHasher,
+                                                       VerifiedCredentialsCache verifiedCredentialsCache,
+                                                       UserCache userCache,
+                                                       KnownUsernames knownUsernames,
+                                                       LoginAttempts loginAttempts) {
+        DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider(
+                new HashingPasswordEncoder(passwordEncoder, passwordHasher));
         authenticationProvider.setUserDetailsService(userDetailsService);
+        authenticationProvider.setUserCache(userCache);
+        authenticationProvider.setUserDetailsPasswordService(userDetailsPasswordService);
 
-        AuthenticationManagerBuilder authenticationManagerBuilder =
-                httpSecurity.getSharedObject(AuthenticationManagerBuilder.class);
-        authenticationManagerBuilder.userDetailsService(userDetailsService);
-        authenticationManagerBuilder.authenticationProvider(authenticationProvider);
-
-        return authenticationManagerBuilder.build();
+        return new ProviderManager(new CachingAuthenticationProvider(
+                new BruteForceGuardAuthenticationProvider(authenticationProvider, knownUsernames, loginAttempts),
+                verifiedCredentialsCache
+        ));
     }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity httpSecurity,
                                            AuthenticationManager authenticationManager,
                                            AuthenticationEntryPoint customAuthenticationEntryPoint,
-                                           AccessDeniedHandler customAccessDeniedHandler) throws Exception {
+                                           AccessDeniedHandler customAccessDeniedHandler,
+                                           TokenService tokenService,
+                                           ObjectMapper objectMapper) throws Exception {
         httpSecurity.authorizeHttpRequests(auth -> auth
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority(
+                                RoleType.ADMIN.name()
+                        )
                         .requestMatchers("/api/v2/user/sign-up").permitAll()
+                        .requestMatchers("/api/v2/user/token/refresh").permitAll()
                         .requestMatchers("/api/v2/user/filter").hasAuthority(
                                 RoleType.ADMIN.name()
                         )
@@ -81,6 +113,10 @@ public class SecurityConfiguration {
                         .anyRequest().authenticated())
                 .csrf(AbstractHttpConfigurer::disable)
                 .httpBasic(Customizer.withDefaults())
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService, customAuthenticationEntryPoint,
+                                new AntPathRequestMatcher("/api/v2/user/token/**")),
+                        BasicAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter(objectMapper), BasicAuthenticationFilter.class)
                 .sessionManagement(configurer -> configurer.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationManager(authenticationManager)
                 .exceptionHandling(configurer -> configurer
@@ -89,4 +125,28 @@ public class SecurityConfiguration {
 
         return httpSecurity.build();
     }
+
+    private RateLimitFilter rateLimitFilter(ObjectMapper objectMapper) {
+        Map<RoleType, RateLimit> readLimits = Map.of(
+                RoleType.USER, new RateLimit(50, 20, Duration.ofSeconds(1)),
+                RoleType.MODERATOR, new RateLimit(100, 50, Duration.ofSeconds(1)),
+                RoleType.ADMIN, new RateLimit(200, 100, Duration.ofSeconds(1))
+        );
+        Map<RoleType, RateLimit> commentLimits = Map.of(
+                RoleType.USER, new RateLimit(30, 10, Duration.ofSeconds(1)),
+                RoleType.MODERATOR, new RateLimit(60, 30, Duration.ofSeconds(1)),
+                RoleType.ADMIN, new RateLimit(120, 60, Duration.ofSeconds(1))
+        );
+
+        return new RateLimitFilter(List.of(
+                RateLimitRule.perIp("sign-up", new AntPathRequestMatcher("/api/v2/user/sign-up"),
+                        new RateLimit(10, 10, Duration.ofMinutes(1))),
+                RateLimitRule.perUser("news-filter", new AntPathRequestMatcher("/api/v2/news/filter"),
+                        readLimits, readLimits.get(RoleType.USER)),
+                RateLimitRule.perUser("news-search", new AntPathRequestMatcher("/api/v2/news/search"),
+                        readLimits, readLimits.get(RoleType.USER)),
+                RateLimitRule.perUser("comment", new AntPathRequestMatcher("/api/v2/comment/**"),
+                        commentLimits, commentLimits.get(RoleType.USER))
+        ), objectMapper, RATE_LIMIT_IDLE_TIMEOUT);
+    }
 }
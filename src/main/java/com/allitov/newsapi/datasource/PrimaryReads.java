@@ -0,0 +1,35 @@
+package com.allitov.newsapi.datasource;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.function.Supplier;
+
+@UtilityClass
+public class PrimaryReads {
+
+    private final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    public void force() {
+        FORCED.set(Boolean.TRUE);
+    }
+
+    public boolean isForced() {
+        return FORCED.get() != null;
+    }
+
+    public void clear() {
+        FORCED.remove();
+    }
+
+    public <T> T call(Supplier<T> action) {
+        boolean alreadyForced = isForced();
+        force();
+        try {
+            return action.get();
+        } finally {
+            if (!alreadyForced) {
+                clear();
+            }
+        }
+    }
+}
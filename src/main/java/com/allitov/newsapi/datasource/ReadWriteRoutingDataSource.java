@@ -0,0 +1,63 @@
+package com.allitov.newsapi.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private volatile List<String> availableReplicas = List.of();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.replicas = Map.copyOf(replicas);
+
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public void setAvailableReplicas(List<String> availableReplicas) {
+        this.availableReplicas = List.copyOf(availableReplicas);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryReads.isForced()) {
+            return PRIMARY;
+        }
+
+        List<String> replicaNames = availableReplicas;
+        if (replicaNames.isEmpty()) {
+            return PRIMARY;
+        }
+
+        return replicaNames.get(Math.floorMod(nextReplica.getAndIncrement(), replicaNames.size()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof Closeable closeableReplica) {
+                closeableReplica.close();
+            }
+        }
+    }
+}
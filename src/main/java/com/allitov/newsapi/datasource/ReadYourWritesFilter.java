@@ -0,0 +1,64 @@
+package com.allitov.newsapi.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> WRITE_METHODS = Set.of(
+            HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.DELETE.name());
+
+    private static final String USER_PREFIX = "user:";
+
+    private static final String ADDRESS_PREFIX = "address:";
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration stickiness) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickiness)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String username = currentUsername();
+        String address = ADDRESS_PREFIX + request.getRemoteAddr();
+        if (recentWriters.getIfPresent(address) != null
+                || (username != null && recentWriters.getIfPresent(USER_PREFIX + username) != null)) {
+            PrimaryReads.force();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PrimaryReads.clear();
+            if (WRITE_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+                recentWriters.put(username == null ? address : USER_PREFIX + username, Boolean.TRUE);
+            }
+        }
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,61 @@
+package com.allitov.newsapi.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICATION_LAG_QUERY = """
+            select case
+                when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+            end
+            """;
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    private final Duration maxLag;
+
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routingDataSource, Duration maxLag) {
+        this.routingDataSource = routingDataSource;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.datasource.replica-lag-check-interval}")
+    public void checkReplicationLag() {
+        List<String> availableReplicas = new ArrayList<>();
+        routingDataSource.getReplicas().forEach((name, replica) -> {
+            try {
+                Duration lag = replicationLag(replica);
+                if (lag.compareTo(maxLag) <= 0) {
+                    availableReplicas.add(name);
+                } else {
+                    log.warn("Replica {} is lagging by {} ms, reads fall back to the primary", name, lag.toMillis());
+                }
+            } catch (SQLException e) {
+                log.warn("Replica {} is unreachable, reads fall back to the primary", name, e);
+            }
+        });
+        routingDataSource.setAvailableReplicas(availableReplicas);
+    }
+
+    private Duration replicationLag(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+            resultSet.next();
+
+            return Duration.ofMillis((long) (resultSet.getDouble(1) * 1000));
+        }
+    }
+}
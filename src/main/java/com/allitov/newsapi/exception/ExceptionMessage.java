@@ -7,6 +7,14 @@ public class ExceptionMessage {
 
     public final String AUTHENTICATION_FAILURE = "Authentication failure";
 
+    public final String TOO_MANY_REQUESTS = "Too many requests, try again later";
+
+    public final String PASSWORD_HASHING_OVERLOADED = "Too many sign-up requests, try again later";
+
+    public final String TOKEN_INVALID = "Token is invalid or expired";
+
+    public final String TOKEN_BLANK_REFRESH_TOKEN = "Refresh token must be specified";
+
     public final String ACCESS_DENIED = "No required authorities";
 
     public final String USER_DATA_ILLEGAL_ACCESS = "User with id = '%d' cannot get or change data of user with id = '%d'";
@@ -62,4 +70,8 @@ public class ExceptionMessage {
     public final String FILTER_NULL_PAGE_NUMBER = "Page number must be specified";
 
     public final String FILTER_INVALID_PAGE_NUMBER = "Page number must be >= 0";
+
+    public final String FILTER_INVALID_CURSOR = "Cursor '%s' is invalid";
+
+    public final String NEWS_SEARCH_BLANK_QUERY = "Search query must be specified";
 }
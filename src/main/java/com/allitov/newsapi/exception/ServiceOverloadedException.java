@@ -0,0 +1,8 @@
+package com.allitov.newsapi.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
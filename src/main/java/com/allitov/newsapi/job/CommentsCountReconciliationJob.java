@@ -0,0 +1,75 @@
+package com.allitov.newsapi.job;
+
+import com.allitov.newsapi.model.repository.NewsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CommentsCountReconciliationJob {
+
+    private static final long LOCK_KEY = "news-api:comments-count-reconciliation".hashCode();
+
+    private final NewsRepository newsRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    public CommentsCountReconciliationJob(NewsRepository newsRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${app.news.comments-count-reconciliation-batch-size}")
+                                          int batchSize) {
+        this.newsRepository = newsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.news.comments-count-reconciliation-cron}")
+    public void reconcile() {
+        long afterId = 0;
+        int reconciledNews = 0;
+        while (true) {
+            Batch batch = reconcileBatchAfter(afterId);
+            if (batch == null) {
+                log.debug("Comments count reconciliation is already running on another node");
+                break;
+            }
+            reconciledNews += batch.reconciledNews();
+            if (batch.ids().size() < batchSize) {
+                break;
+            }
+            afterId = batch.ids().get(batch.ids().size() - 1);
+        }
+
+        if (reconciledNews > 0) {
+            log.warn("Comments count drift repaired for {} news", reconciledNews);
+        }
+    }
+
+    private Batch reconcileBatchAfter(long afterId) {
+        return transactionTemplate.execute(status -> {
+            if (!newsRepository.tryAdvisoryTransactionLock(LOCK_KEY)) {
+                return null;
+            }
+
+            List<Long> ids = newsRepository.lockIdsAfter(afterId, batchSize);
+            if (ids.isEmpty()) {
+                return new Batch(ids, 0);
+            }
+
+            return new Batch(ids, newsRepository.reconcileCommentsCount(ids));
+        });
+    }
+
+    private record Batch(List<Long> ids, int reconciledNews) {
+    }
+}
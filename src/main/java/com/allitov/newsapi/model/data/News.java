@@ -40,6 +40,9 @@ public class News {
     @JoinColumn(name = "category_id", referencedColumnName = "id")
     private NewsCategory category;
 
+    @Column(insertable = false, updatable = false)
+    private Long commentsCount;
+
     @OneToMany(mappedBy = "news", cascade = CascadeType.ALL)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
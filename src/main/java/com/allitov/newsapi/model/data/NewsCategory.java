@@ -1,8 +1,11 @@
 package com.allitov.newsapi.model.data;
 
+import com.allitov.newsapi.util.CacheNames;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @NoArgsConstructor
@@ -11,6 +14,8 @@ import lombok.experimental.FieldNameConstants;
 @FieldNameConstants
 @Entity
 @Table(name = "news_categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.NEWS_CATEGORY_ENTITY)
 public class NewsCategory {
 
     @Id
@@ -1,10 +1,17 @@
 package com.allitov.newsapi.model.data;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
 public enum RoleType {
 
-    ADMIN,
+    ADMIN(1),
+
+    USER(1 << 1),
 
-    USER,
+    MODERATOR(1 << 2);
 
-    MODERATOR
+    private final int mask;
 }
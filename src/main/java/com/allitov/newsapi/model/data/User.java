@@ -1,8 +1,12 @@
 package com.allitov.newsapi.model.data;
 
+import com.allitov.newsapi.model.data.converter.RoleSetConverter;
+import com.allitov.newsapi.util.CacheNames;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.Instant;
@@ -16,6 +20,8 @@ import java.util.Set;
 @FieldNameConstants
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.USER_ENTITY)
 public class User {
 
     @Id
@@ -28,12 +34,17 @@ public class User {
 
     private String password;
 
-    @ElementCollection(targetClass = RoleType.class, fetch = FetchType.EAGER)
-    @JoinTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = RoleSetConverter.class)
     @Builder.Default
     private Set<RoleType> roles = new HashSet<>();
 
     @CreationTimestamp
     private Instant registrationDate;
+
+    @Builder.Default
+    private Long tokenVersion = 0L;
+
+    public boolean hasModerationRights() {
+        return roles.size() > 1 || !roles.contains(RoleType.USER);
+    }
 }
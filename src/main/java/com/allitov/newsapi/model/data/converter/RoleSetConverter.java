@@ -0,0 +1,38 @@
+package com.allitov.newsapi.model.data.converter;
+
+import com.allitov.newsapi.model.data.RoleType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Converter
+public class RoleSetConverter implements AttributeConverter<Set<RoleType>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<RoleType> roles) {
+        int mask = 0;
+        if (roles != null) {
+            for (RoleType role : roles) {
+                mask |= role.getMask();
+            }
+        }
+
+        return mask;
+    }
+
+    @Override
+    public Set<RoleType> convertToEntityAttribute(Integer mask) {
+        Set<RoleType> roles = EnumSet.noneOf(RoleType.class);
+        if (mask != null) {
+            for (RoleType role : RoleType.values()) {
+                if ((mask & role.getMask()) != 0) {
+                    roles.add(role);
+                }
+            }
+        }
+
+        return roles;
+    }
+}
@@ -0,0 +1,11 @@
+package com.allitov.newsapi.model.data.projection;
+
+import java.time.Instant;
+
+public record CommentView(Long id,
+                          String content,
+                          Long authorId,
+                          Long newsId,
+                          Instant creationDate,
+                          Instant lastUpdate) {
+}
@@ -0,0 +1,8 @@
+package com.allitov.newsapi.model.data.projection;
+
+public interface NewsRank {
+
+    Long getId();
+
+    Float getRank();
+}
@@ -0,0 +1,4 @@
+package com.allitov.newsapi.model.data.projection;
+
+public record NewsSearchResult(NewsSummary news, float rank) {
+}
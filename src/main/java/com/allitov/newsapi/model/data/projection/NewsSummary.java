@@ -0,0 +1,12 @@
+package com.allitov.newsapi.model.data.projection;
+
+import java.time.Instant;
+
+public record NewsSummary(Long id,
+                          String content,
+                          Long authorId,
+                          Long categoryId,
+                          Instant creationDate,
+                          Instant lastUpdate,
+                          Long commentsCount) {
+}
@@ -0,0 +1,27 @@
+package com.allitov.newsapi.model.data.projection;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+public record NewsView(Long id,
+                       String content,
+                       Long authorId,
+                       Long categoryId,
+                       Instant creationDate,
+                       Instant lastUpdate,
+                       List<CommentView> comments) {
+
+    public NewsView(Long id,
+                    String content,
+                    Long authorId,
+                    Long categoryId,
+                    Instant creationDate,
+                    Instant lastUpdate) {
+        this(id, content, authorId, categoryId, creationDate, lastUpdate, Collections.emptyList());
+    }
+
+    public NewsView withComments(List<CommentView> comments) {
+        return new NewsView(id, content, authorId, categoryId, creationDate, lastUpdate, List.copyOf(comments));
+    }
+}
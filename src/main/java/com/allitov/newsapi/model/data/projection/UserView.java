@@ -0,0 +1,9 @@
+package com.allitov.newsapi.model.data.projection;
+
+import java.time.Instant;
+
+public record UserView(Long id,
+                       String username,
+                       String email,
+                       Instant registrationDate) {
+}
@@ -0,0 +1,5 @@
+package com.allitov.newsapi.model.event;
+
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+
+public record NewsChangedEvent(Long id, NewsSummary news) {}
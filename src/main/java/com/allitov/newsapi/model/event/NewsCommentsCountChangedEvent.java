@@ -0,0 +1,3 @@
+package com.allitov.newsapi.model.event;
+
+public record NewsCommentsCountChangedEvent(Long id, long commentsCount) {}
@@ -0,0 +1,3 @@
+package com.allitov.newsapi.model.event;
+
+public record UserChangedEvent(Long id, String previousUsername, String currentUsername) {}
@@ -1,8 +1,60 @@
 package com.allitov.newsapi.model.repository;
 
 import com.allitov.newsapi.model.data.Comment;
+import com.allitov.newsapi.model.data.News;
+import com.allitov.newsapi.model.data.projection.CommentView;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment> {
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    @Query("""
+            select new com.allitov.newsapi.model.data.projection.CommentView(
+                c.id, c.content, c.author.id, c.news.id, c.creationDate, c.lastUpdate
+            )
+            from Comment c
+            where c.id = :id
+            """)
+    Optional<CommentView> findViewById(@Param("id") Long id);
+
+    @Query("""
+            select new com.allitov.newsapi.model.data.projection.CommentView(
+                c.id, c.content, c.author.id, c.news.id, c.creationDate, c.lastUpdate
+            )
+            from Comment c
+            where c.news.id = :newsId
+            order by c.id
+            """)
+    List<CommentView> findViewsByNewsId(@Param("newsId") Long newsId);
+
+    @Query("select c.news.id from Comment c where c.id = :id")
+    Optional<Long> findNewsIdById(@Param("id") Long id);
+
+    @Query("select c.author.id from Comment c where c.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+            update Comment c
+            set c.content = :content, c.lastUpdate = :lastUpdate
+            where c.id = :id and c.author.id = :authorId and c.news = :news
+            """)
+    int updateAuthoredById(@Param("id") Long id,
+                           @Param("authorId") Long authorId,
+                           @Param("news") News news,
+                           @Param("content") String content,
+                           @Param("lastUpdate") Instant lastUpdate);
+
+    @Query(value = """
+            delete from news_schema.comments
+            where id = :id and (cast(:authorId as bigint) is null or author_id = :authorId)
+            returning news_id
+            """, nativeQuery = true)
+    Optional<Long> deleteAuthoredById(@Param("id") Long id, @Param("authorId") Long authorId);
 }
@@ -1,7 +1,31 @@
 package com.allitov.newsapi.model.repository;
 
 import com.allitov.newsapi.model.data.NewsCategory;
+import com.allitov.newsapi.model.data.projection.NewsCategoryView;
+import com.allitov.newsapi.util.CacheNames;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface NewsCategoryRepository extends JpaRepository<NewsCategory, Long> {
+
+    @Query("""
+            select new com.allitov.newsapi.model.data.projection.NewsCategoryView(nc.id, nc.name)
+            from NewsCategory nc
+            order by nc.id
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheNames.NEWS_CATEGORY_QUERIES)
+    })
+    List<NewsCategoryView> findAllViews(Pageable pageable);
+
+    @Query("select nc.id from NewsCategory nc where nc.name = :name order by nc.id")
+    List<Long> findIdsByName(@Param("name") String name);
 }
@@ -1,30 +1,156 @@
 package com.allitov.newsapi.model.repository;
 
 import com.allitov.newsapi.model.data.News;
-import jakarta.annotation.Nonnull;
-import org.springframework.data.domain.Page;
+import com.allitov.newsapi.model.data.NewsCategory;
+import com.allitov.newsapi.model.data.projection.NewsRank;
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+import com.allitov.newsapi.model.data.projection.NewsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface NewsRepository extends JpaRepository<News, Long>, JpaSpecificationExecutor<News> {
+public interface NewsRepository extends JpaRepository<News, Long> {
 
-    @Query("select n.id from News n")
-    Page<Long> getAllIds(Pageable pageable);
+    @Query("""
+            select new com.allitov.newsapi.model.data.projection.NewsSummary(
+                n.id, n.content, n.author.id, n.category.id, n.creationDate, n.lastUpdate, n.commentsCount
+            )
+            from News n
+            where (:author is null or n.author.username = :author)
+            and (:anyCategory = true or n.category.id in :categoryIds)
+            order by n.creationDate desc, n.id desc
+            """)
+    List<NewsSummary> findSummariesByFilter(@Param("author") String author,
+                                            @Param("anyCategory") boolean anyCategory,
+                                            @Param("categoryIds") Collection<Long> categoryIds,
+                                            Pageable pageable);
 
-    @Override
-    @Nonnull
-    @EntityGraph(attributePaths = {"comments"})
-    Optional<News> findById(@Nonnull Long aLong);
+    @Query("""
+            select new com.allitov.newsapi.model.data.projection.NewsSummary(
+                n.id, n.content, n.author.id, n.category.id, n.creationDate, n.lastUpdate, n.commentsCount
+            )
+            from News n
+            where (:author is null or n.author.username = :author)
+            and (:anyCategory = true or n.category.id in :categoryIds)
+            and (n.creationDate, n.id) < (:creationDate, :id)
+            order by n.creationDate desc, n.id desc
+            """)
+    List<NewsSummary> findSummariesByFilterAfter(@Param("author") String author,
+                                                 @Param("anyCategory") boolean anyCategory,
+                                                 @Param("categoryIds") Collection<Long> categoryIds,
+                                                 @Param("creationDate") Instant creationDate,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
 
-    @Override
-    @Nonnull
-    @EntityGraph(attributePaths = {"comments"})
-    List<News> findAll(@Nonnull Specification<News> spec);
+    @Query("""
+            select new com.allitov.newsapi.model.data.projection.NewsView(
+                n.id, n.content, n.author.id, n.category.id, n.creationDate, n.lastUpdate
+            )
+            from News n
+            where n.id = :id
+            """)
+    Optional<NewsView> findViewById(@Param("id") Long id);
+
+    @Query("""
+            select new com.allitov.newsapi.model.data.projection.NewsSummary(
+                n.id, n.content, n.author.id, n.category.id, n.creationDate, n.lastUpdate, n.commentsCount
+            )
+            from News n
+            where n.id in :ids
+            """)
+    List<NewsSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new com.allitov.newsapi.model.data.projection.NewsSummary(
+                n.id, n.content, n.author.id, n.category.id, n.creationDate, n.lastUpdate, n.commentsCount
+            )
+            from News n
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<NewsSummary> streamAllSummaries();
+
+    @Query(value = """
+            select n.id as id, ts_rank(to_tsvector('english', n.content), websearch_to_tsquery('english', :query)) as rank
+            from news_schema.news n
+            where to_tsvector('english', n.content) @@ websearch_to_tsquery('english', :query)
+            order by rank desc, n.id desc
+            limit :limit
+            """, nativeQuery = true)
+    List<NewsRank> searchRanks(@Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = """
+            select ranked.id as id, ranked.rank as rank
+            from (
+                select n.id as id, ts_rank(to_tsvector('english', n.content), websearch_to_tsquery('english', :query)) as rank
+                from news_schema.news n
+                where to_tsvector('english', n.content) @@ websearch_to_tsquery('english', :query)
+            ) ranked
+            where (ranked.rank, ranked.id) < (:rank, :id)
+            order by ranked.rank desc, ranked.id desc
+            limit :limit
+            """, nativeQuery = true)
+    List<NewsRank> searchRanksAfter(@Param("query") String query,
+                                    @Param("rank") float rank,
+                                    @Param("id") Long id,
+                                    @Param("limit") int limit);
+
+    @Query("select n.author.id from News n where n.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+            update News n
+            set n.content = :content, n.category = :category, n.lastUpdate = :lastUpdate
+            where n.id = :id and n.author.id = :authorId
+            """)
+    int updateAuthoredById(@Param("id") Long id,
+                           @Param("authorId") Long authorId,
+                           @Param("content") String content,
+                           @Param("category") NewsCategory category,
+                           @Param("lastUpdate") Instant lastUpdate);
+
+    @Modifying
+    @Query("delete from News n where n.id = :id and (:authorId is null or n.author.id = :authorId)")
+    int deleteAuthoredById(@Param("id") Long id, @Param("authorId") Long authorId);
+
+    @Query(value = """
+            update news_schema.news
+            set comments_count = comments_count + :delta
+            where id = :id
+            returning comments_count
+            """, nativeQuery = true)
+    Optional<Long> addToCommentsCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query(value = """
+            select n.id
+            from news_schema.news n
+            where n.id > :afterId
+            order by n.id
+            limit :limit
+            for no key update
+            """, nativeQuery = true)
+    List<Long> lockIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+            update News n
+            set n.commentsCount = (select count(c.id) from Comment c where c.news.id = n.id)
+            where n.id in :ids
+            and n.commentsCount <> (select count(c.id) from Comment c where c.news.id = n.id)
+            """)
+    int reconcileCommentsCount(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryTransactionLock(@Param("key") long key);
 }
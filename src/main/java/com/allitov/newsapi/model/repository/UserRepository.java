@@ -1,11 +1,43 @@
 package com.allitov.newsapi.model.repository;
 
 import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.UserView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUsername(String username);
+
+    boolean existsByUsername(String username);
+
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") Long id);
+
+    @Query("select u.username from User u")
+    Stream<String> streamAllUsernames();
+
+    @Query("""
+            select new com.allitov.newsapi.model.data.projection.UserView(
+                u.id, u.username, u.email, u.registrationDate
+            )
+            from User u
+            where u.id = :id
+            """)
+    Optional<UserView> findViewById(@Param("id") Long id);
+
+    @Query("""
+            select new com.allitov.newsapi.model.data.projection.UserView(
+                u.id, u.username, u.email, u.registrationDate
+            )
+            from User u
+            order by u.id
+            """)
+    List<UserView> findAllViews(Pageable pageable);
 }
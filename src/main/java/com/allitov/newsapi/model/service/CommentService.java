@@ -1,6 +1,8 @@
 package com.allitov.newsapi.model.service;
 
 import com.allitov.newsapi.model.data.Comment;
+import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.CommentView;
 import com.allitov.newsapi.web.filter.CommentFilter;
 
 import java.util.List;
@@ -9,11 +11,15 @@ public interface CommentService {
 
     Comment findById(Long id);
 
-    List<Comment> filterBy(CommentFilter filter);
+    CommentView findViewById(Long id);
+
+    Long findAuthorIdById(Long id);
+
+    List<CommentView> filterBy(CommentFilter filter);
 
     Comment save(Comment comment);
 
-    Comment update(Comment comment);
+    Comment update(Comment comment, User user);
 
-    void deleteById(Long id);
+    void deleteById(Long id, User user);
 }
@@ -1,6 +1,7 @@
 package com.allitov.newsapi.model.service;
 
 import com.allitov.newsapi.model.data.NewsCategory;
+import com.allitov.newsapi.model.data.projection.NewsCategoryView;
 import com.allitov.newsapi.web.filter.NewsCategoryFilter;
 
 import java.util.List;
@@ -9,7 +10,13 @@ public interface NewsCategoryService {
 
     NewsCategory findById(Long id);
 
-    List<NewsCategory> filterBy(NewsCategoryFilter filter);
+    NewsCategoryView findViewById(Long id);
+
+    NewsCategory getReferenceById(Long id);
+
+    List<Long> findIdsByName(String name);
+
+    List<NewsCategoryView> filterBy(NewsCategoryFilter filter);
 
     NewsCategory save(NewsCategory newsCategory);
 
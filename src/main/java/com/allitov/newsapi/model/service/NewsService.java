@@ -1,7 +1,12 @@
 package com.allitov.newsapi.model.service;
 
 import com.allitov.newsapi.model.data.News;
+import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.NewsSearchResult;
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+import com.allitov.newsapi.model.data.projection.NewsView;
 import com.allitov.newsapi.web.filter.NewsFilter;
+import com.allitov.newsapi.web.filter.NewsSearchFilter;
 
 import java.util.List;
 
@@ -9,11 +14,19 @@ public interface NewsService {
 
     News findById(Long id);
 
-    List<News> filterBy(NewsFilter filter);
+    NewsView findViewById(Long id);
+
+    News getReferenceById(Long id);
+
+    Long findAuthorIdById(Long id);
+
+    List<NewsSummary> filterBy(NewsFilter filter);
+
+    List<NewsSearchResult> search(NewsSearchFilter filter);
 
     News save(News news);
 
-    News update(News news);
+    News update(News news, User user);
 
-    void deleteById(Long id);
+    void deleteById(Long id, User user);
 }
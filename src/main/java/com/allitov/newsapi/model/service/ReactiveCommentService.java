@@ -0,0 +1,13 @@
+package com.allitov.newsapi.model.service;
+
+import com.allitov.newsapi.model.data.projection.CommentView;
+import com.allitov.newsapi.web.filter.CommentFilter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCommentService {
+
+    Mono<CommentView> findViewById(Long id);
+
+    Flux<CommentView> filterBy(CommentFilter filter);
+}
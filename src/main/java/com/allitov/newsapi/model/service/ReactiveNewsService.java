@@ -0,0 +1,14 @@
+package com.allitov.newsapi.model.service;
+
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+import com.allitov.newsapi.model.data.projection.NewsView;
+import com.allitov.newsapi.web.filter.NewsFilter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveNewsService {
+
+    Mono<NewsView> findViewById(Long id);
+
+    Flux<NewsSummary> filterBy(NewsFilter filter);
+}
@@ -1,6 +1,7 @@
 package com.allitov.newsapi.model.service;
 
 import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.UserView;
 import com.allitov.newsapi.web.filter.UserFilter;
 
 import java.util.List;
@@ -9,7 +10,11 @@ public interface UserService {
 
     User findById(Long id);
 
-    List<User> filterBy(UserFilter filter);
+    UserView findViewById(Long id);
+
+    Long findTokenVersionById(Long id);
+
+    List<UserView> filterBy(UserFilter filter);
 
     User update(User user);
 
@@ -17,5 +22,7 @@ public interface UserService {
 
     User createNewAccount(User user);
 
+    User updatePassword(String username, String encodedPassword);
+
     User findUserByUsername(String username);
 }
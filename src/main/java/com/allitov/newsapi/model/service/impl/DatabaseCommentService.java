@@ -1,24 +1,49 @@
 package com.allitov.newsapi.model.service.impl;
 
+import com.allitov.newsapi.datasource.PrimaryReads;
 import com.allitov.newsapi.exception.ExceptionMessage;
+import com.allitov.newsapi.exception.IllegalDataAccessException;
 import com.allitov.newsapi.model.data.Comment;
+import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.CommentView;
+import com.allitov.newsapi.model.event.NewsCommentsCountChangedEvent;
 import com.allitov.newsapi.model.repository.CommentRepository;
-import com.allitov.newsapi.model.repository.specification.CommentSpecification;
+import com.allitov.newsapi.model.repository.NewsRepository;
 import com.allitov.newsapi.model.service.CommentService;
 import com.allitov.newsapi.util.BeanUtils;
+import com.allitov.newsapi.util.CacheNames;
+import com.allitov.newsapi.util.SingleFlight;
 import com.allitov.newsapi.web.filter.CommentFilter;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class DatabaseCommentService implements CommentService {
 
     private final CommentRepository commentRepository;
 
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final NewsRepository newsRepository;
+
+    private final CacheManager cacheManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final SingleFlight<Long, CommentView> viewLoads = new SingleFlight<>();
+
     @Override
     public Comment findById(Long id) {
         return commentRepository.findById(id).orElseThrow(
@@ -27,25 +52,108 @@ public class DatabaseCommentService implements CommentService {
     }
 
     @Override
-    public List<Comment> filterBy(CommentFilter filter) {
-        return commentRepository.findAll(CommentSpecification.withFilter(filter));
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CommentView findViewById(Long id) {
+        return viewLoads.load(id, this::loadViewById);
+    }
+
+    @Override
+    public Long findAuthorIdById(Long id) {
+        return commentRepository.findAuthorIdById(id).orElseThrow(
+                () -> new EntityNotFoundException(String.format(ExceptionMessage.COMMENT_BY_ID_NOT_FOUND, id))
+        );
+    }
+
+    @Override
+    public List<CommentView> filterBy(CommentFilter filter) {
+        return commentRepository.findViewsByNewsId(filter.getNewsId());
     }
 
     @Override
+    @Transactional
     public Comment save(Comment comment) {
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+        addToCommentsCount(savedComment.getNews().getId(), 1);
+        evictNews(savedComment.getNews().getId());
+
+        return savedComment;
     }
 
     @Override
-    public Comment update(Comment comment) {
+    @Transactional
+    public Comment update(Comment comment, User user) {
+        int updatedRows = commentRepository.updateAuthoredById(comment.getId(), user.getId(),
+                comment.getNews(), comment.getContent(), Instant.now());
+        if (updatedRows == 1) {
+            evictNews(comment.getNews().getId());
+
+            return comment;
+        }
+
+        if (!user.getId().equals(findAuthorIdById(comment.getId()))) {
+            throw dataAccessRejection(comment.getId(), user);
+        }
+
+        return moveToNews(comment);
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id, User user) {
+        Long authorId = user.hasModerationRights() ? null : user.getId();
+        Long newsId = commentRepository.deleteAuthoredById(id, authorId).orElseThrow(() -> {
+            findAuthorIdById(id);
+            return dataAccessRejection(id, user);
+        });
+
+        addToCommentsCount(newsId, -1);
+        evictNews(newsId);
+    }
+
+    private Comment moveToNews(Comment comment) {
         Comment foundComment = findById(comment.getId());
+        Long previousNewsId = foundComment.getNews().getId();
         BeanUtils.copyNonNullProperties(comment, foundComment);
+        Comment updatedComment = commentRepository.save(foundComment);
+
+        Long newsId = updatedComment.getNews().getId();
+        if (!newsId.equals(previousNewsId)) {
+            if (previousNewsId < newsId) {
+                addToCommentsCount(previousNewsId, -1);
+                addToCommentsCount(newsId, 1);
+            } else {
+                addToCommentsCount(newsId, 1);
+                addToCommentsCount(previousNewsId, -1);
+            }
+            evictNews(previousNewsId);
+        }
+        evictNews(newsId);
 
-        return commentRepository.save(foundComment);
+        return updatedComment;
     }
 
-    @Override
-    public void deleteById(Long id) {
-        commentRepository.deleteById(id);
+    private IllegalDataAccessException dataAccessRejection(Long id, User user) {
+        return new IllegalDataAccessException(String.format(
+                ExceptionMessage.COMMENT_DATA_ILLEGAL_ACCESS, user.getId(), id));
+    }
+
+    private void addToCommentsCount(Long newsId, long delta) {
+        newsRepository.addToCommentsCount(newsId, delta).ifPresent(commentsCount ->
+                eventPublisher.publishEvent(new NewsCommentsCountChangedEvent(newsId, commentsCount)));
+    }
+
+    private void evictNews(Long newsId) {
+        for (String cacheName : List.of(CacheNames.NEWS, CacheNames.NEWS_JSON)) {
+            Cache newsCache = cacheManager.getCache(cacheName);
+            if (newsCache != null) {
+                newsCache.evict(newsId);
+            }
+        }
+    }
+
+    private CommentView loadViewById(Long id) {
+        return PrimaryReads.call(() -> readOnlyTransactionTemplate.execute(
+                status -> commentRepository.findViewById(id))
+        ).orElseThrow(() -> new EntityNotFoundException(String.format(ExceptionMessage.COMMENT_BY_ID_NOT_FOUND, id)));
     }
 }
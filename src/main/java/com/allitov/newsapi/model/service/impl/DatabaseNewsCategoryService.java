@@ -1,24 +1,45 @@
 package com.allitov.newsapi.model.service.impl;
 
+import com.allitov.newsapi.datasource.PrimaryReads;
 import com.allitov.newsapi.exception.ExceptionMessage;
 import com.allitov.newsapi.model.data.NewsCategory;
+import com.allitov.newsapi.model.data.projection.NewsCategoryView;
 import com.allitov.newsapi.model.repository.NewsCategoryRepository;
 import com.allitov.newsapi.model.service.NewsCategoryService;
 import com.allitov.newsapi.util.BeanUtils;
+import com.allitov.newsapi.util.SingleFlight;
 import com.allitov.newsapi.web.filter.NewsCategoryFilter;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class DatabaseNewsCategoryService implements NewsCategoryService {
 
     private final NewsCategoryRepository newsCategoryRepository;
 
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final SingleFlight<Boolean, NewsCategorySnapshot> snapshotLoads = new SingleFlight<>();
+
+    private final AtomicReference<NewsCategorySnapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicLong snapshotVersion = new AtomicLong();
+
     @Override
     public NewsCategory findById(Long id) {
         return newsCategoryRepository.findById(id).orElseThrow(
@@ -27,27 +48,124 @@ public class DatabaseNewsCategoryService implements NewsCategoryService {
     }
 
     @Override
-    public List<NewsCategory> filterBy(NewsCategoryFilter filter) {
-        return newsCategoryRepository
-                .findAll(PageRequest.of(filter.getPageNumber(), filter.getPageSize()))
-                .getContent();
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public NewsCategoryView findViewById(Long id) {
+        NewsCategoryView category = snapshot().categoriesById().get(id);
+        if (category != null) {
+            return category;
+        }
+
+        return PrimaryReads.call(() -> newsCategoryRepository.findById(id))
+                .map(foundCategory -> new NewsCategoryView(foundCategory.getId(), foundCategory.getName()))
+                .orElseThrow(() -> new EntityNotFoundException(
+                        String.format(ExceptionMessage.NEWS_CATEGORY_BY_ID_NOT_FOUND, id)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public NewsCategory getReferenceById(Long id) {
+        findViewById(id);
+
+        return newsCategoryRepository.getReferenceById(id);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<Long> findIdsByName(String name) {
+        List<Long> ids = snapshot().idsByName().get(name);
+        if (ids != null) {
+            return ids;
+        }
+
+        return PrimaryReads.call(() -> newsCategoryRepository.findIdsByName(name));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<NewsCategoryView> filterBy(NewsCategoryFilter filter) {
+        return snapshot().page(filter.getPageNumber(), filter.getPageSize());
     }
 
     @Override
+    @Transactional
     public NewsCategory save(NewsCategory newsCategory) {
-        return newsCategoryRepository.save(newsCategory);
+        NewsCategory savedNewsCategory = newsCategoryRepository.save(newsCategory);
+        NewsCategoryView category = new NewsCategoryView(savedNewsCategory.getId(), savedNewsCategory.getName());
+        updateSnapshotAfterCommit(currentSnapshot -> currentSnapshot.with(category));
+
+        return savedNewsCategory;
     }
 
     @Override
+    @Transactional
     public NewsCategory update(NewsCategory newsCategory) {
         NewsCategory foundNewsCategory = findById(newsCategory.getId());
         BeanUtils.copyNonNullProperties(newsCategory, foundNewsCategory);
 
-        return newsCategoryRepository.save(foundNewsCategory);
+        NewsCategory updatedNewsCategory = newsCategoryRepository.save(foundNewsCategory);
+        NewsCategoryView category = new NewsCategoryView(updatedNewsCategory.getId(), updatedNewsCategory.getName());
+        updateSnapshotAfterCommit(currentSnapshot -> currentSnapshot.with(category));
+
+        return updatedNewsCategory;
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         newsCategoryRepository.deleteById(id);
+        updateSnapshotAfterCommit(currentSnapshot -> currentSnapshot.without(id));
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Scheduled(fixedDelayString = "${app.news-category.snapshot-ttl}",
+            initialDelayString = "${app.news-category.snapshot-ttl}")
+    public void expireSnapshot() {
+        snapshotVersion.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private NewsCategorySnapshot snapshot() {
+        NewsCategorySnapshot currentSnapshot = snapshot.get();
+        if (currentSnapshot != null) {
+            return currentSnapshot;
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loadSnapshot();
+        }
+
+        return snapshotLoads.load(Boolean.TRUE, key -> {
+            long version = snapshotVersion.get();
+            NewsCategorySnapshot loadedSnapshot = loadSnapshot();
+            snapshot.compareAndSet(null, loadedSnapshot);
+            if (snapshotVersion.get() != version) {
+                snapshot.compareAndSet(loadedSnapshot, null);
+            }
+
+            return loadedSnapshot;
+        });
+    }
+
+    private NewsCategorySnapshot loadSnapshot() {
+        return NewsCategorySnapshot.of(PrimaryReads.call(() -> readOnlyTransactionTemplate.execute(
+                status -> newsCategoryRepository.findAllViews(Pageable.unpaged()))));
+    }
+
+    private void updateSnapshotAfterCommit(UnaryOperator<NewsCategorySnapshot> update) {
+        Runnable swap = () -> {
+            snapshotVersion.incrementAndGet();
+            snapshot.updateAndGet(currentSnapshot -> currentSnapshot == null ? null : update.apply(currentSnapshot));
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            swap.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                swap.run();
+            }
+        });
     }
 }
@@ -1,25 +1,65 @@
 package com.allitov.newsapi.model.service.impl;
 
+import com.allitov.newsapi.datasource.PrimaryReads;
 import com.allitov.newsapi.exception.ExceptionMessage;
+import com.allitov.newsapi.exception.IllegalDataAccessException;
 import com.allitov.newsapi.model.data.News;
+import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.NewsRank;
+import com.allitov.newsapi.model.data.projection.NewsSearchResult;
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+import com.allitov.newsapi.model.data.projection.NewsView;
+import com.allitov.newsapi.model.event.NewsChangedEvent;
+import com.allitov.newsapi.model.repository.CommentRepository;
 import com.allitov.newsapi.model.repository.NewsRepository;
-import com.allitov.newsapi.model.repository.specification.NewsSpecification;
+import com.allitov.newsapi.model.service.NewsCategoryService;
 import com.allitov.newsapi.model.service.NewsService;
-import com.allitov.newsapi.util.BeanUtils;
+import com.allitov.newsapi.search.NewsSearchIndex;
+import com.allitov.newsapi.util.CacheNames;
+import com.allitov.newsapi.util.SingleFlight;
+import com.allitov.newsapi.web.filter.NewsCursor;
 import com.allitov.newsapi.web.filter.NewsFilter;
+import com.allitov.newsapi.web.filter.NewsSearchCursor;
+import com.allitov.newsapi.web.filter.NewsSearchFilter;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class DatabaseNewsService implements NewsService {
 
     private final NewsRepository newsRepository;
 
+    private final CommentRepository commentRepository;
+
+    private final NewsCategoryService newsCategoryService;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Optional<NewsSearchIndex> newsSearchIndex;
+
+    private final SingleFlight<Long, NewsView> viewLoads = new SingleFlight<>();
+
+    private final SingleFlight<Long, Boolean> existenceChecks = new SingleFlight<>();
+
     @Override
     public News findById(Long id) {
         return newsRepository.findById(id).orElseThrow(
@@ -27,28 +67,131 @@ public class DatabaseNewsService implements NewsService {
     }
 
     @Override
-    public List<News> filterBy(NewsFilter filter) {
-        List<Long> ids = newsRepository.getAllIds(
-                PageRequest.of(filter.getPageNumber(), filter.getPageSize())).getContent();
-        return newsRepository.findAll(
-                NewsSpecification.withFilter(filter, ids));
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Cacheable(cacheNames = CacheNames.NEWS, key = "#id")
+    public NewsView findViewById(Long id) {
+        return viewLoads.load(id, this::loadViewById);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public News getReferenceById(Long id) {
+        if (!existenceChecks.load(id, newsId -> PrimaryReads.call(
+                () -> readOnlyTransactionTemplate.execute(status -> newsRepository.existsById(newsId))))) {
+            throw new EntityNotFoundException(String.format(ExceptionMessage.NEWS_BY_ID_NOT_FOUND, id));
+        }
+
+        return newsRepository.getReferenceById(id);
+    }
+
+    @Override
+    public Long findAuthorIdById(Long id) {
+        return newsRepository.findAuthorIdById(id).orElseThrow(
+                () -> new EntityNotFoundException(String.format(ExceptionMessage.NEWS_BY_ID_NOT_FOUND, id)));
+    }
+
+    @Override
+    public List<NewsSummary> filterBy(NewsFilter filter) {
+        boolean anyCategory = filter.getCategory() == null;
+        List<Long> categoryIds = List.of();
+        if (!anyCategory) {
+            categoryIds = newsCategoryService.findIdsByName(filter.getCategory());
+            if (categoryIds.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        if (filter.getAfter() == null) {
+            return newsRepository.findSummariesByFilter(filter.getAuthor(), anyCategory, categoryIds,
+                    PageRequest.of(filter.getPageNumber(), filter.getPageSize()));
+        }
+
+        NewsCursor cursor = NewsCursor.decode(filter.getAfter());
+        return newsRepository.findSummariesByFilterAfter(filter.getAuthor(), anyCategory, categoryIds,
+                cursor.creationDate(), cursor.id(), PageRequest.ofSize(filter.getPageSize()));
+    }
+
+    @Override
+    public List<NewsSearchResult> search(NewsSearchFilter filter) {
+        Optional<NewsSearchIndex> readyIndex = newsSearchIndex.filter(NewsSearchIndex::isReady);
+        if (readyIndex.isPresent()) {
+            return readyIndex.get().search(filter);
+        }
+
+        List<NewsRank> ranks;
+        if (filter.getAfter() == null) {
+            ranks = newsRepository.searchRanks(filter.getQ(), filter.getPageSize());
+        } else {
+            NewsSearchCursor cursor = NewsSearchCursor.decode(filter.getAfter());
+            ranks = newsRepository.searchRanksAfter(filter.getQ(), cursor.rank(), cursor.id(), filter.getPageSize());
+        }
+        if (ranks.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, NewsSummary> summaries = newsRepository.findSummariesByIds(
+                ranks.stream().map(NewsRank::getId).toList()
+        ).stream().collect(Collectors.toMap(NewsSummary::id, Function.identity()));
+
+        return ranks.stream()
+                .filter(rank -> summaries.containsKey(rank.getId()))
+                .map(rank -> new NewsSearchResult(summaries.get(rank.getId()), rank.getRank()))
+                .toList();
     }
 
     @Override
+    @Transactional
     public News save(News news) {
-        return newsRepository.save(news);
+        News savedNews = newsRepository.save(news);
+        eventPublisher.publishEvent(new NewsChangedEvent(savedNews.getId(), new NewsSummary(
+                savedNews.getId(), savedNews.getContent(), savedNews.getAuthor().getId(),
+                savedNews.getCategory().getId(), savedNews.getCreationDate(), savedNews.getLastUpdate(),
+                savedNews.getCommentsCount() == null ? 0L : savedNews.getCommentsCount())));
+
+        return savedNews;
     }
 
     @Override
-    public News update(News news) {
-        News foundNews = findById(news.getId());
-        BeanUtils.copyNonNullProperties(news, foundNews);
+    @Transactional
+    @CacheEvict(cacheNames = {CacheNames.NEWS, CacheNames.NEWS_JSON}, key = "#news.id")
+    public News update(News news, User user) {
+        Instant lastUpdate = Instant.now();
+        int updatedRows = newsRepository.updateAuthoredById(news.getId(), user.getId(),
+                news.getContent(), news.getCategory(), lastUpdate);
+        if (updatedRows == 0) {
+            findAuthorIdById(news.getId());
+            throw dataAccessRejection(news.getId(), user);
+        }
+        eventPublisher.publishEvent(new NewsChangedEvent(news.getId(), new NewsSummary(
+                news.getId(), news.getContent(), user.getId(), news.getCategory().getId(),
+                null, lastUpdate, null)));
 
-        return newsRepository.save(foundNews);
+        return news;
     }
 
     @Override
-    public void deleteById(Long id) {
-        newsRepository.deleteById(id);
+    @Transactional
+    @CacheEvict(cacheNames = {CacheNames.NEWS, CacheNames.NEWS_JSON}, key = "#id")
+    public void deleteById(Long id, User user) {
+        Long authorId = user.hasModerationRights() ? null : user.getId();
+        if (newsRepository.deleteAuthoredById(id, authorId) == 0) {
+            findAuthorIdById(id);
+            throw dataAccessRejection(id, user);
+        }
+        eventPublisher.publishEvent(new NewsChangedEvent(id, null));
+    }
+
+    private IllegalDataAccessException dataAccessRejection(Long id, User user) {
+        return new IllegalDataAccessException(String.format(
+                ExceptionMessage.NEWS_DATA_ILLEGAL_ACCESS, user.getId(), id));
+    }
+
+    private NewsView loadViewById(Long id) {
+        return PrimaryReads.call(() -> readOnlyTransactionTemplate.execute(status -> {
+            NewsView news = newsRepository.findViewById(id).orElseThrow(
+                    () -> new EntityNotFoundException(String.format(ExceptionMessage.NEWS_BY_ID_NOT_FOUND, id)));
+
+            return news.withComments(commentRepository.findViewsByNewsId(id));
+        }));
     }
 }
@@ -1,27 +1,42 @@
 package com.allitov.newsapi.model.service.impl;
 
+import com.allitov.newsapi.datasource.PrimaryReads;
 import com.allitov.newsapi.exception.ExceptionMessage;
 import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.UserView;
+import com.allitov.newsapi.model.event.UserChangedEvent;
 import com.allitov.newsapi.model.repository.UserRepository;
 import com.allitov.newsapi.model.service.UserService;
+import com.allitov.newsapi.security.PasswordHasher;
 import com.allitov.newsapi.util.BeanUtils;
+import com.allitov.newsapi.util.SingleFlight;
 import com.allitov.newsapi.web.filter.UserFilter;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class DatabaseUserService implements UserService {
 
     private final UserRepository userRepository;
 
-    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final PasswordHasher passwordHasher;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final SingleFlight<Long, UserView> viewLoads = new SingleFlight<>();
 
     @Override
     public User findById(Long id) {
@@ -31,30 +46,66 @@ public class DatabaseUserService implements UserService {
     }
 
     @Override
-    public List<User> filterBy(UserFilter filter) {
-        return userRepository
-                .findAll(PageRequest.of(filter.getPageNumber(), filter.getPageSize()))
-                .getContent();
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserView findViewById(Long id) {
+        return viewLoads.load(id, this::loadViewById);
     }
 
     @Override
+    public Long findTokenVersionById(Long id) {
+        return userRepository.findTokenVersionById(id).orElseThrow(
+                () -> new EntityNotFoundException(String.format(ExceptionMessage.USER_BY_ID_NOT_FOUND, id))
+        );
+    }
+
+    @Override
+    public List<UserView> filterBy(UserFilter filter) {
+        return userRepository.findAllViews(PageRequest.of(filter.getPageNumber(), filter.getPageSize()));
+    }
+
+    @Override
+    @Transactional
     public User update(User user) {
         User foundUser = findById(user.getId());
+        String previousUsername = foundUser.getUsername();
+        long previousTokenVersion = foundUser.getTokenVersion();
         BeanUtils.copyNonNullProperties(user, foundUser);
+        foundUser.setTokenVersion(previousTokenVersion + 1);
+        User updatedUser = userRepository.save(foundUser);
+        eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId(), previousUsername, updatedUser.getUsername()));
 
-        return userRepository.save(foundUser);
+        return updatedUser;
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(user -> {
+            userRepository.delete(user);
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getUsername(), null));
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User createNewAccount(User user) {
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        user.setPassword(passwordHasher.encode(user.getPassword()));
+        User createdUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(createdUser.getId(), null, createdUser.getUsername()));
+
+        return createdUser;
+    }
 
-        return userRepository.save(user);
+    @Override
+    @Transactional
+    public User updatePassword(String username, String encodedPassword) {
+        User foundUser = findUserByUsername(username);
+        foundUser.setPassword(encodedPassword);
+        foundUser.setTokenVersion(foundUser.getTokenVersion() + 1);
+        User updatedUser = userRepository.save(foundUser);
+        eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId(), updatedUser.getUsername(), updatedUser.getUsername()));
+
+        return updatedUser;
     }
 
     @Override
@@ -64,4 +115,10 @@ public class DatabaseUserService implements UserService {
                         String.format(ExceptionMessage.USER_BY_USERNAME_NOT_FOUND, username))
                 );
     }
+
+    private UserView loadViewById(Long id) {
+        return PrimaryReads.call(() -> readOnlyTransactionTemplate.execute(
+                status -> userRepository.findViewById(id))
+        ).orElseThrow(() -> new EntityNotFoundException(String.format(ExceptionMessage.USER_BY_ID_NOT_FOUND, id)));
+    }
 }
@@ -0,0 +1,49 @@
+package com.allitov.newsapi.model.service.impl;
+
+import com.allitov.newsapi.model.data.projection.NewsCategoryView;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+record NewsCategorySnapshot(List<NewsCategoryView> categories,
+                            Map<Long, NewsCategoryView> categoriesById,
+                            Map<String, List<Long>> idsByName) {
+
+    static NewsCategorySnapshot of(Collection<NewsCategoryView> categories) {
+        List<NewsCategoryView> sortedCategories = categories.stream()
+                .sorted(Comparator.comparing(NewsCategoryView::id))
+                .toList();
+        Map<Long, NewsCategoryView> categoriesById = new HashMap<>();
+        Map<String, List<Long>> idsByName = new HashMap<>();
+        for (NewsCategoryView category : sortedCategories) {
+            categoriesById.put(category.id(), category);
+            idsByName.computeIfAbsent(category.name(), name -> new ArrayList<>()).add(category.id());
+        }
+        idsByName.replaceAll((name, ids) -> List.copyOf(ids));
+
+        return new NewsCategorySnapshot(sortedCategories, Map.copyOf(categoriesById), Map.copyOf(idsByName));
+    }
+
+    NewsCategorySnapshot with(NewsCategoryView category) {
+        return of(Stream.concat(
+                categories.stream().filter(existingCategory -> !existingCategory.id().equals(category.id())),
+                Stream.of(category)
+        ).toList());
+    }
+
+    NewsCategorySnapshot without(Long id) {
+        return of(categories.stream().filter(category -> !category.id().equals(id)).toList());
+    }
+
+    List<NewsCategoryView> page(int pageNumber, int pageSize) {
+        int fromIndex = (int) Math.min((long) pageNumber * pageSize, categories.size());
+        int toIndex = (int) Math.min((long) fromIndex + pageSize, categories.size());
+
+        return categories.subList(fromIndex, toIndex);
+    }
+}
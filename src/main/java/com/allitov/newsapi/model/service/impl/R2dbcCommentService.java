@@ -0,0 +1,61 @@
+package com.allitov.newsapi.model.service.impl;
+
+import com.allitov.newsapi.exception.ExceptionMessage;
+import com.allitov.newsapi.model.data.projection.CommentView;
+import com.allitov.newsapi.model.service.ReactiveCommentService;
+import com.allitov.newsapi.web.filter.CommentFilter;
+import io.r2dbc.spi.Readable;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+@Service
+@RequiredArgsConstructor
+public class R2dbcCommentService implements ReactiveCommentService {
+
+    private static final String SELECT_COMMENT_VIEW = """
+            select c.id, c.content, c.author_id, c.news_id, c.creation_date, c.last_update
+            from news_schema.comments c
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<CommentView> findViewById(Long id) {
+        return databaseClient.sql(SELECT_COMMENT_VIEW + "where c.id = :id")
+                .bind("id", id)
+                .map(R2dbcCommentService::toCommentView)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(
+                        String.format(ExceptionMessage.COMMENT_BY_ID_NOT_FOUND, id))));
+    }
+
+    @Override
+    public Flux<CommentView> filterBy(CommentFilter filter) {
+        return findViewsByNewsId(filter.getNewsId());
+    }
+
+    Flux<CommentView> findViewsByNewsId(Long newsId) {
+        return databaseClient.sql(SELECT_COMMENT_VIEW + "where c.news_id = :newsId order by c.id")
+                .bind("newsId", newsId)
+                .map(R2dbcCommentService::toCommentView)
+                .all();
+    }
+
+    private static CommentView toCommentView(Readable row) {
+        return new CommentView(
+                row.get("id", Long.class),
+                row.get("content", String.class),
+                row.get("author_id", Long.class),
+                row.get("news_id", Long.class),
+                row.get("creation_date", LocalDateTime.class).toInstant(ZoneOffset.UTC),
+                row.get("last_update", LocalDateTime.class).toInstant(ZoneOffset.UTC)
+        );
+    }
+}
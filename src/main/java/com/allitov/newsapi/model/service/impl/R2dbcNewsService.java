@@ -0,0 +1,107 @@
+package com.allitov.newsapi.model.service.impl;
+
+import com.allitov.newsapi.exception.ExceptionMessage;
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+import com.allitov.newsapi.model.data.projection.NewsView;
+import com.allitov.newsapi.model.service.ReactiveNewsService;
+import com.allitov.newsapi.web.filter.NewsCursor;
+import com.allitov.newsapi.web.filter.NewsFilter;
+import io.r2dbc.spi.Readable;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@Service
+@RequiredArgsConstructor
+public class R2dbcNewsService implements ReactiveNewsService {
+
+    private final DatabaseClient databaseClient;
+
+    private final R2dbcCommentService commentService;
+
+    @Override
+    public Mono<NewsView> findViewById(Long id) {
+        return databaseClient.sql("""
+                        select n.id, n.content, n.author_id, n.category_id, n.creation_date, n.last_update
+                        from news_schema.news n
+                        where n.id = :id
+                        """)
+                .bind("id", id)
+                .map(row -> new NewsView(
+                        row.get("id", Long.class),
+                        row.get("content", String.class),
+                        row.get("author_id", Long.class),
+                        row.get("category_id", Long.class),
+                        toInstant(row, "creation_date"),
+                        toInstant(row, "last_update")
+                ))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(
+                        String.format(ExceptionMessage.NEWS_BY_ID_NOT_FOUND, id))))
+                .flatMap(news -> commentService.findViewsByNewsId(id).collectList().map(news::withComments));
+    }
+
+    @Override
+    public Flux<NewsSummary> filterBy(NewsFilter filter) {
+        StringBuilder sql = new StringBuilder("""
+                select n.id, n.content, n.author_id, n.category_id, n.creation_date, n.last_update, n.comments_count
+                from news_schema.news n
+                """);
+        StringJoiner conditions = new StringJoiner(" and ", "where ", "\n").setEmptyValue("");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (filter.getAuthor() != null) {
+            sql.append("join news_schema.users u on u.id = n.author_id\n");
+            conditions.add("u.username = :author");
+            parameters.put("author", filter.getAuthor());
+        }
+        if (filter.getCategory() != null) {
+            sql.append("join news_schema.news_categories nc on nc.id = n.category_id\n");
+            conditions.add("nc.category_name = :category");
+            parameters.put("category", filter.getCategory());
+        }
+
+        long offset = (long) filter.getPageNumber() * filter.getPageSize();
+        if (filter.getAfter() != null) {
+            NewsCursor cursor = NewsCursor.decode(filter.getAfter());
+            conditions.add("(n.creation_date, n.id) < (:creationDate, :id)");
+            parameters.put("creationDate", LocalDateTime.ofInstant(cursor.creationDate(), ZoneOffset.UTC));
+            parameters.put("id", cursor.id());
+            offset = 0;
+        }
+
+        sql.append(conditions).append("order by n.creation_date desc, n.id desc limit :limit offset :offset");
+        parameters.put("limit", filter.getPageSize());
+        parameters.put("offset", offset);
+
+        DatabaseClient.GenericExecuteSpec query = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            query = query.bind(parameter.getKey(), parameter.getValue());
+        }
+
+        return query.map(row -> new NewsSummary(
+                        row.get("id", Long.class),
+                        row.get("content", String.class),
+                        row.get("author_id", Long.class),
+                        row.get("category_id", Long.class),
+                        toInstant(row, "creation_date"),
+                        toInstant(row, "last_update"),
+                        row.get("comments_count", Long.class)
+                ))
+                .all();
+    }
+
+    private static Instant toInstant(Readable row, String column) {
+        return row.get(column, LocalDateTime.class).toInstant(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,227 @@
+package com.allitov.newsapi.search;
+
+import com.allitov.newsapi.web.filter.NewsSearchCursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+
+    private static final float B = 0.75f;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Term> terms = new HashMap<>();
+
+    private final Map<Long, Integer> docsByNewsId = new HashMap<>();
+
+    private final List<Long> docIds = new ArrayList<>();
+
+    private final List<Term[]> docTerms = new ArrayList<>();
+
+    private final BitSet removedDocs = new BitSet();
+
+    private int[] docLengths = new int[INITIAL_CAPACITY];
+
+    private long totalLength;
+
+    public void put(Long newsId, String content) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(newsId);
+            addDoc(newsId, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long newsId) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(newsId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SearchHit> search(NewsQuery query, int limit, NewsSearchCursor after) {
+        lock.readLock().lock();
+        try {
+            Map<String, BitSet> termDocs = new HashMap<>();
+            Set<String> scoredTerms = new LinkedHashSet<>();
+            BitSet matchedDocs = new BitSet();
+            for (NewsQuery.Clause clause : query.clauses()) {
+                BitSet clauseDocs = null;
+                for (String token : clause.requiredTerms()) {
+                    BitSet docs = docsContaining(token, termDocs);
+                    if (clauseDocs == null) {
+                        clauseDocs = (BitSet) docs.clone();
+                    } else {
+                        clauseDocs.and(docs);
+                    }
+                }
+                for (String token : clause.excludedTerms()) {
+                    clauseDocs.andNot(docsContaining(token, termDocs));
+                }
+                matchedDocs.or(clauseDocs);
+                scoredTerms.addAll(clause.requiredTerms());
+            }
+            matchedDocs.andNot(removedDocs);
+            if (matchedDocs.isEmpty()) {
+                return List.of();
+            }
+
+            int liveDocs = docsByNewsId.size();
+            float averageLength = (float) totalLength / liveDocs;
+            float[] scores = new float[docIds.size()];
+            for (String token : scoredTerms) {
+                Term term = terms.get(token);
+                if (term == null || term.documentFrequency == 0) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (liveDocs - term.documentFrequency + 0.5)
+                        / (term.documentFrequency + 0.5));
+                term.postings.forEach((doc, frequency) -> {
+                    if (!matchedDocs.get(doc)) {
+                        return;
+                    }
+                    float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    scores[doc] += idf * frequency * (K1 + 1) / (frequency + norm);
+                });
+            }
+
+            Comparator<Integer> ranking = Comparator.<Integer>comparingDouble(doc -> scores[doc])
+                    .thenComparingLong(doc -> docIds.get(doc));
+            PriorityQueue<Integer> topDocs = new PriorityQueue<>(limit + 1, ranking);
+            for (int doc = matchedDocs.nextSetBit(0); doc >= 0; doc = matchedDocs.nextSetBit(doc + 1)) {
+                if (after != null && (scores[doc] > after.rank()
+                        || (scores[doc] == after.rank() && docIds.get(doc) >= after.id()))) {
+                    continue;
+                }
+                topDocs.add(doc);
+                if (topDocs.size() > limit) {
+                    topDocs.poll();
+                }
+            }
+
+            return topDocs.stream()
+                    .sorted(ranking.reversed())
+                    .map(doc -> new SearchHit(docIds.get(doc), scores[doc]))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            terms.values().forEach(term -> term.postings.trimToSize());
+            docLengths = Arrays.copyOf(docLengths, docIds.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsByNewsId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long size = (long) docLengths.length * Integer.BYTES + removedDocs.size() / Byte.SIZE;
+            for (Map.Entry<String, Term> entry : terms.entrySet()) {
+                size += ENTRY_OVERHEAD_BYTES + entry.getKey().length() + entry.getValue().postings.sizeInBytes();
+            }
+            for (Term[] termsOfDoc : docTerms) {
+                size += 2L * Integer.BYTES;
+                if (termsOfDoc != null) {
+                    size += 2 * ENTRY_OVERHEAD_BYTES + (long) termsOfDoc.length * Integer.BYTES;
+                }
+            }
+
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet docsContaining(String token, Map<String, BitSet> termDocs) {
+        return termDocs.computeIfAbsent(token, key -> {
+            BitSet docs = new BitSet();
+            Term term = terms.get(key);
+            if (term != null) {
+                term.postings.forEach((doc, frequency) -> docs.set(doc));
+            }
+
+            return docs;
+        });
+    }
+
+    private void addDoc(Long newsId, String content) {
+        int doc = docIds.size();
+        List<String> tokens = NewsTokenizer.tokenize(content);
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        Term[] termsOfDoc = new Term[frequencies.size()];
+        int termIndex = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            Term term = terms.computeIfAbsent(entry.getKey(), key -> new Term());
+            term.postings.add(doc, entry.getValue());
+            term.documentFrequency++;
+            termsOfDoc[termIndex++] = term;
+        }
+
+        if (doc == docLengths.length) {
+            docLengths = Arrays.copyOf(docLengths, Math.max(INITIAL_CAPACITY, docLengths.length * 2));
+        }
+        docLengths[doc] = tokens.size();
+        totalLength += tokens.size();
+        docIds.add(newsId);
+        docTerms.add(termsOfDoc);
+        docsByNewsId.put(newsId, doc);
+    }
+
+    private void removeDoc(Long newsId) {
+        Integer doc = docsByNewsId.remove(newsId);
+        if (doc == null) {
+            return;
+        }
+
+        for (Term term : docTerms.get(doc)) {
+            term.documentFrequency--;
+        }
+        totalLength -= docLengths[doc];
+        removedDocs.set(doc);
+        docTerms.set(doc, null);
+    }
+
+    private static class Term {
+
+        private final PostingList postings = new PostingList();
+
+        private int documentFrequency;
+    }
+}
@@ -0,0 +1,42 @@
+package com.allitov.newsapi.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public record NewsQuery(List<Clause> clauses) {
+
+    private static final String EXCLUSION_PREFIX = "-";
+
+    private static final String OR_OPERATOR = "or";
+
+    public static NewsQuery parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        Set<String> requiredTerms = new LinkedHashSet<>();
+        Set<String> excludedTerms = new LinkedHashSet<>();
+        for (String word : query.trim().split("\\s+")) {
+            if (word.equalsIgnoreCase(OR_OPERATOR)) {
+                addClause(clauses, requiredTerms, excludedTerms);
+                requiredTerms = new LinkedHashSet<>();
+                excludedTerms = new LinkedHashSet<>();
+            } else if (word.startsWith(EXCLUSION_PREFIX)) {
+                excludedTerms.addAll(NewsTokenizer.tokenize(word));
+            } else {
+                requiredTerms.addAll(NewsTokenizer.tokenize(word));
+            }
+        }
+        addClause(clauses, requiredTerms, excludedTerms);
+
+        return new NewsQuery(List.copyOf(clauses));
+    }
+
+    private static void addClause(List<Clause> clauses, Set<String> requiredTerms, Set<String> excludedTerms) {
+        if (!requiredTerms.isEmpty()) {
+            clauses.add(new Clause(List.copyOf(requiredTerms), Set.copyOf(excludedTerms)));
+        }
+    }
+
+    public record Clause(List<String> requiredTerms, Set<String> excludedTerms) {
+    }
+}
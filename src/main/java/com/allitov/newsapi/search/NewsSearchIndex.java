@@ -0,0 +1,196 @@
+package com.allitov.newsapi.search;
+
+import com.allitov.newsapi.datasource.PrimaryReads;
+import com.allitov.newsapi.model.data.projection.NewsSearchResult;
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+import com.allitov.newsapi.model.event.NewsChangedEvent;
+import com.allitov.newsapi.model.event.NewsCommentsCountChangedEvent;
+import com.allitov.newsapi.model.repository.NewsRepository;
+import com.allitov.newsapi.web.filter.NewsSearchCursor;
+import com.allitov.newsapi.web.filter.NewsSearchFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.news.search.engine", havingValue = "memory")
+public class NewsSearchIndex {
+
+    private final NewsRepository newsRepository;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Timer buildTimer;
+
+    private static final long SUMMARY_OVERHEAD_BYTES = 128;
+
+    private final List<Change> changedSinceRebuild = new ArrayList<>();
+
+    private boolean rebuilding;
+
+    private volatile InvertedIndex index;
+
+    private volatile Map<Long, NewsSummary> summaries;
+
+    public NewsSearchIndex(NewsRepository newsRepository,
+                           TransactionTemplate readOnlyTransactionTemplate,
+                           MeterRegistry meterRegistry) {
+        this.newsRepository = newsRepository;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+        this.buildTimer = Timer.builder("news.search.index.build")
+                .description("Time spent building the in-memory news search index")
+                .register(meterRegistry);
+        Gauge.builder("news.search.index.memory", this, NewsSearchIndex::sizeInBytes)
+                .description("Estimated memory footprint of the in-memory news search index")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+        Gauge.builder("news.search.index.documents", this, NewsSearchIndex::size)
+                .description("News indexed by the in-memory news search index")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    public List<NewsSearchResult> search(NewsSearchFilter filter) {
+        NewsSearchCursor cursor = filter.getAfter() == null ? null : NewsSearchCursor.decode(filter.getAfter());
+
+        List<SearchHit> hits = index.search(NewsQuery.parse(filter.getQ()), filter.getPageSize(), cursor);
+        Map<Long, NewsSummary> currentSummaries = summaries;
+
+        return hits.stream()
+                .filter(hit -> currentSummaries.containsKey(hit.newsId()))
+                .map(hit -> new NewsSearchResult(currentSummaries.get(hit.newsId()), hit.rank()))
+                .toList();
+    }
+
+    public int size() {
+        InvertedIndex currentIndex = index;
+
+        return currentIndex == null ? 0 : currentIndex.size();
+    }
+
+    public long sizeInBytes() {
+        InvertedIndex currentIndex = index;
+        Map<Long, NewsSummary> currentSummaries = summaries;
+        if (currentIndex == null || currentSummaries == null) {
+            return 0;
+        }
+
+        long summariesSize = 0;
+        for (NewsSummary summary : currentSummaries.values()) {
+            summariesSize += SUMMARY_OVERHEAD_BYTES + 2L * summary.content().length();
+        }
+
+        return currentIndex.sizeInBytes() + summariesSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        NewsSummary changed = event.news();
+        if (changed == null) {
+            apply(new Change(event.id(), current -> null));
+        } else if (changed.creationDate() == null) {
+            apply(new Change(event.id(), current -> current == null ? null : new NewsSummary(
+                    current.id(), changed.content(), changed.authorId(), changed.categoryId(),
+                    current.creationDate(), changed.lastUpdate(), current.commentsCount())));
+        } else {
+            apply(new Change(event.id(), current -> changed));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsCommentsCountChanged(NewsCommentsCountChangedEvent event) {
+        apply(new Change(event.id(), current -> current == null ? null : new NewsSummary(
+                current.id(), current.content(), current.authorId(), current.categoryId(),
+                current.creationDate(), current.lastUpdate(), event.commentsCount())));
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.news.search.index.rebuild-interval}")
+    public void rebuild() {
+        long startTime = System.nanoTime();
+        synchronized (this) {
+            changedSinceRebuild.clear();
+            rebuilding = true;
+        }
+
+        InvertedIndex rebuiltIndex = new InvertedIndex();
+        Map<Long, NewsSummary> rebuiltSummaries = new ConcurrentHashMap<>();
+        try {
+            PrimaryReads.call(() -> readOnlyTransactionTemplate.execute(status -> {
+                try (Stream<NewsSummary> news = newsRepository.streamAllSummaries()) {
+                    news.forEach(summary -> {
+                        rebuiltIndex.put(summary.id(), summary.content());
+                        rebuiltSummaries.put(summary.id(), summary);
+                    });
+                }
+
+                return rebuiltIndex;
+            }));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                rebuilding = false;
+            }
+            throw e;
+        }
+        rebuiltIndex.trimToSize();
+
+        synchronized (this) {
+            changedSinceRebuild.forEach(change -> applyTo(rebuiltIndex, rebuiltSummaries, change));
+            changedSinceRebuild.clear();
+            rebuilding = false;
+            summaries = rebuiltSummaries;
+            index = rebuiltIndex;
+        }
+
+        long buildTime = System.nanoTime() - startTime;
+        buildTimer.record(buildTime, TimeUnit.NANOSECONDS);
+        log.info("News search index rebuilt in {} ms, {} news, {} bytes",
+                TimeUnit.NANOSECONDS.toMillis(buildTime), rebuiltIndex.size(), rebuiltIndex.sizeInBytes());
+    }
+
+    private synchronized void apply(Change change) {
+        InvertedIndex currentIndex = index;
+        if (currentIndex != null) {
+            applyTo(currentIndex, summaries, change);
+        }
+        if (rebuilding) {
+            changedSinceRebuild.add(change);
+        }
+    }
+
+    private static void applyTo(InvertedIndex index, Map<Long, NewsSummary> summaries, Change change) {
+        NewsSummary current = summaries.get(change.id());
+        NewsSummary changed = change.update().apply(current);
+        if (changed == null) {
+            summaries.remove(change.id());
+            index.remove(change.id());
+            return;
+        }
+
+        if (current == null || !Objects.equals(current.content(), changed.content())) {
+            index.put(change.id(), changed.content());
+        }
+        summaries.put(change.id(), changed);
+    }
+
+    private record Change(Long id, UnaryOperator<NewsSummary> update) {}
+}
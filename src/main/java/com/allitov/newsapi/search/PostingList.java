@@ -0,0 +1,88 @@
+package com.allitov.newsapi.search;
+
+import java.util.Arrays;
+
+public class PostingList {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static final int MAX_ENTRY_BYTES = 10;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+
+    private int length;
+
+    private int size;
+
+    private int lastDoc = -1;
+
+    private boolean trimmed;
+
+    public void add(int doc, int frequency) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("Documents must be added in increasing order");
+        }
+
+        if (length + MAX_ENTRY_BYTES > bytes.length) {
+            int slack = trimmed ? length >> 3 : Math.max(length, INITIAL_CAPACITY);
+            bytes = Arrays.copyOf(bytes, length + MAX_ENTRY_BYTES + slack);
+        }
+        writeVarInt(doc - lastDoc);
+        writeVarInt(frequency);
+        lastDoc = doc;
+        size++;
+    }
+
+    public void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int doc = -1;
+        while (position < length) {
+            int delta = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = bytes[position++];
+                delta |= (current & 0x7F) << shift;
+                shift += 7;
+            } while (current < 0);
+
+            int frequency = 0;
+            shift = 0;
+            do {
+                current = bytes[position++];
+                frequency |= (current & 0x7F) << shift;
+                shift += 7;
+            } while (current < 0);
+
+            doc += delta;
+            consumer.accept(doc, frequency);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long sizeInBytes() {
+        return bytes.length;
+    }
+
+    public void trimToSize() {
+        bytes = Arrays.copyOf(bytes, length);
+        trimmed = true;
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    @FunctionalInterface
+    public interface PostingConsumer {
+
+        void accept(int doc, int frequency);
+    }
+}
@@ -0,0 +1,4 @@
+package com.allitov.newsapi.search;
+
+public record SearchHit(Long newsId, float rank) {
+}
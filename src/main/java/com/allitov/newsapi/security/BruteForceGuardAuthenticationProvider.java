@@ -0,0 +1,55 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.exception.ExceptionMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+@RequiredArgsConstructor
+public class BruteForceGuardAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+
+    private final KnownUsernames knownUsernames;
+
+    private final LoginAttempts loginAttempts;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        if (!knownUsernames.mightExist(username)) {
+            throw new BadCredentialsException(ExceptionMessage.AUTHENTICATION_FAILURE);
+        }
+        String clientAddress = clientAddress(authentication);
+        if (loginAttempts.isLockedOut(username, clientAddress)) {
+            throw new LockedException(ExceptionMessage.AUTHENTICATION_FAILURE);
+        }
+
+        try {
+            Authentication verifiedAuthentication = delegate.authenticate(authentication);
+            loginAttempts.recordSuccess(username, clientAddress);
+
+            return verifiedAuthentication;
+        } catch (BadCredentialsException e) {
+            loginAttempts.recordFailure(username, clientAddress);
+            throw e;
+        }
+    }
+
+    private String clientAddress(Authentication authentication) {
+        if (authentication.getDetails() instanceof WebAuthenticationDetails details) {
+            return details.getRemoteAddress();
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
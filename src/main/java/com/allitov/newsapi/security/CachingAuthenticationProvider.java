@@ -0,0 +1,41 @@
+package com.allitov.newsapi.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+@RequiredArgsConstructor
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+
+    private final VerifiedCredentialsCache verifiedCredentialsCache;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (authentication.getCredentials() == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        String username = authentication.getName();
+        String password = authentication.getCredentials().toString();
+        Authentication cachedAuthentication = verifiedCredentialsCache.get(username, password);
+        if (cachedAuthentication != null) {
+            return cachedAuthentication;
+        }
+
+        long generation = verifiedCredentialsCache.generation();
+        Authentication verifiedAuthentication = delegate.authenticate(authentication);
+        if (verifiedAuthentication != null) {
+            verifiedCredentialsCache.put(username, password, verifiedAuthentication, generation);
+        }
+
+        return verifiedAuthentication;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
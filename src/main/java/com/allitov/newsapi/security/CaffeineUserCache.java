@@ -0,0 +1,66 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.model.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+@Component
+public class CaffeineUserCache implements UserCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    private final UsernameGenerations generations;
+
+    private final ThreadLocal<Long> loadGeneration = new ThreadLocal<>();
+
+    public CaffeineUserCache(@Value("${app.security.user-cache.maximum-size}") long maximumSize,
+                             @Value("${app.security.user-cache.ttl}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.generations = new UsernameGenerations(maximumSize, ttl);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails user = cache.getIfPresent(username);
+        if (user == null) {
+            loadGeneration.set(generations.current());
+        }
+
+        return user;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        Long generation = loadGeneration.get();
+        loadGeneration.remove();
+
+        cache.put(user.getUsername(), user);
+        if (generation != null && generations.changedSince(user.getUsername(), generation)) {
+            cache.asMap().remove(user.getUsername(), user);
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        generations.advance(username);
+        cache.invalidate(username);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.previousUsername() != null) {
+            removeUserFromCache(event.previousUsername());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.datasource.PrimaryReads;
+import com.allitov.newsapi.model.event.UserChangedEvent;
+import com.allitov.newsapi.model.repository.UserRepository;
+import com.allitov.newsapi.util.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class KnownUsernames {
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final long expectedUsernames;
+
+    private final double falsePositiveProbability;
+
+    private final Cache<String, Boolean> unknownUsernames;
+
+    private final Set<String> addedSinceRebuild = ConcurrentHashMap.newKeySet();
+
+    private volatile BloomFilter filter;
+
+    public KnownUsernames(UserRepository userRepository,
+                          TransactionTemplate readOnlyTransactionTemplate,
+                          @Value("${app.security.username-filter.expected-usernames}") long expectedUsernames,
+                          @Value("${app.security.username-filter.false-positive-probability}")
+                          double falsePositiveProbability,
+                          @Value("${app.security.username-filter.unknown-usernames.maximum-size}")
+                          long unknownUsernamesMaximumSize,
+                          @Value("${app.security.username-filter.unknown-usernames.ttl}") Duration unknownUsernamesTtl,
+                          Ticker ticker) {
+        this.userRepository = userRepository;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+        this.expectedUsernames = expectedUsernames;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.unknownUsernames = Caffeine.newBuilder()
+                .maximumSize(unknownUsernamesMaximumSize)
+                .expireAfterWrite(unknownUsernamesTtl)
+                .ticker(ticker)
+                .build();
+    }
+
+    public boolean mightExist(String username) {
+        BloomFilter currentFilter = filter;
+        if (currentFilter == null || currentFilter.mightContain(username)) {
+            return true;
+        }
+        if (unknownUsernames.getIfPresent(username) != null) {
+            return false;
+        }
+
+        boolean exists = PrimaryReads.call(() -> userRepository.existsByUsername(username));
+        if (exists) {
+            add(username);
+        } else {
+            unknownUsernames.put(username, Boolean.TRUE);
+        }
+
+        return exists;
+    }
+
+    public void add(String username) {
+        unknownUsernames.invalidate(username);
+        addedSinceRebuild.add(username);
+        BloomFilter currentFilter = filter;
+        if (currentFilter != null) {
+            currentFilter.put(username);
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.currentUsername() != null) {
+            add(event.currentUsername());
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.security.username-filter.rebuild-interval}")
+    public void rebuild() {
+        long startTime = System.nanoTime();
+        addedSinceRebuild.clear();
+
+        BloomFilter rebuiltFilter = PrimaryReads.call(() -> readOnlyTransactionTemplate.execute(status -> {
+            BloomFilter usernameFilter = new BloomFilter(
+                    Math.max(expectedUsernames, userRepository.count() * 2), falsePositiveProbability);
+            try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+                usernames.forEach(usernameFilter::put);
+            }
+
+            return usernameFilter;
+        }));
+        filter = rebuiltFilter;
+        addedSinceRebuild.forEach(rebuiltFilter::put);
+
+        log.debug("Username filter rebuilt in {} ms, {} bytes",
+                (System.nanoTime() - startTime) / 1_000_000, rebuiltFilter.sizeInBytes());
+    }
+}
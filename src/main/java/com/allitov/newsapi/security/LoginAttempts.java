@@ -0,0 +1,71 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.model.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class LoginAttempts {
+
+    private final Cache<Key, Integer> failures;
+
+    private final Cache<String, Integer> accountFailures;
+
+    private final int maxFailures;
+
+    private final int maxAccountFailures;
+
+    public LoginAttempts(@Value("${app.security.login-attempts.max-failures}") int maxFailures,
+                         @Value("${app.security.login-attempts.max-account-failures}") int maxAccountFailures,
+                         @Value("${app.security.login-attempts.lockout}") Duration lockout,
+                         @Value("${app.security.login-attempts.maximum-size}") long maximumSize,
+                         Ticker ticker) {
+        this.maxFailures = maxFailures;
+        this.maxAccountFailures = maxAccountFailures;
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(lockout)
+                .ticker(ticker)
+                .build();
+        this.accountFailures = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(lockout)
+                .ticker(ticker)
+                .build();
+    }
+
+    public boolean isLockedOut(String username, String clientAddress) {
+        Integer failureCount = failures.getIfPresent(new Key(username, clientAddress));
+        Integer accountFailureCount = accountFailures.getIfPresent(username);
+
+        return failureCount != null && failureCount >= maxFailures
+                || accountFailureCount != null && accountFailureCount >= maxAccountFailures;
+    }
+
+    public void recordFailure(String username, String clientAddress) {
+        failures.asMap().merge(new Key(username, clientAddress), 1, Integer::sum);
+        accountFailures.asMap().merge(username, 1, Integer::sum);
+    }
+
+    public void recordSuccess(String username, String clientAddress) {
+        failures.invalidate(new Key(username, clientAddress));
+        accountFailures.invalidate(username);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.previousUsername() != null && !event.previousUsername().equals(event.currentUsername())) {
+            failures.asMap().keySet().removeIf(key -> key.username().equals(event.previousUsername()));
+            accountFailures.invalidate(event.previousUsername());
+        }
+    }
+
+    private record Key(String username, String clientAddress) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.exception.ExceptionMessage;
+import com.allitov.newsapi.exception.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration timeout;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${app.security.password.hashing-threads}") int threads,
+                          @Value("${app.security.password.hashing-queue-capacity}") int queueCapacity,
+                          @Value("${app.security.password.hashing-timeout}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(CharSequence rawPassword) {
+        Future<String> encodedPassword;
+        try {
+            encodedPassword = executor.submit(() -> passwordEncoder.encode(rawPassword));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceOverloadedException(ExceptionMessage.PASSWORD_HASHING_OVERLOADED);
+        }
+
+        try {
+            return encodedPassword.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            encodedPassword.cancel(true);
+            throw new ServiceOverloadedException(ExceptionMessage.PASSWORD_HASHING_OVERLOADED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,10 @@
+package com.allitov.newsapi.security;
+
+import java.time.Duration;
+
+public record RateLimit(long capacity, long refillTokens, Duration refillPeriod) {
+
+    public long retryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil((double) refillPeriod.toSeconds() / refillTokens));
+    }
+}
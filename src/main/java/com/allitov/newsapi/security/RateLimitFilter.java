@@ -0,0 +1,110 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.exception.ExceptionMessage;
+import com.allitov.newsapi.web.dto.response.error.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<RateLimitRule> rules;
+
+    private final ObjectMapper objectMapper;
+
+    private final long idleNanos;
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private final AtomicLong nextSweepTime;
+
+    public RateLimitFilter(List<RateLimitRule> rules, ObjectMapper objectMapper, Duration idleTimeout) {
+        this.rules = List.copyOf(rules);
+        this.objectMapper = objectMapper;
+        this.idleNanos = idleTimeout.toNanos();
+        this.nextSweepTime = new AtomicLong(System.nanoTime() + idleNanos);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        sweepIdleBuckets();
+
+        RateLimitRule rule = rules.stream()
+                .filter(candidate -> candidate.matcher().matches(request))
+                .findFirst()
+                .orElse(null);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String bucketKey;
+        RateLimit limit;
+        if (rule.perUser()) {
+            UserDetailsImpl userDetails = currentUser();
+            if (userDetails == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            bucketKey = rule.group() + ":" + userDetails.getId();
+            limit = rule.limitFor(userDetails.getUser().getRoles());
+        } else {
+            bucketKey = rule.group() + ":" + request.getRemoteAddr();
+            limit = rule.defaultLimit();
+        }
+
+        if (!buckets.computeIfAbsent(bucketKey, key -> new TokenBucket(limit)).tryConsume(limit)) {
+            reject(response, limit);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private UserDetailsImpl currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl userDetails)) {
+            return null;
+        }
+
+        return userDetails;
+    }
+
+    private void reject(HttpServletResponse response, RateLimit limit) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limit.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ErrorResponse responseBody = new ErrorResponse(ExceptionMessage.TOO_MANY_REQUESTS);
+        OutputStream responseStream = response.getOutputStream();
+        objectMapper.writeValue(responseStream, responseBody);
+        responseStream.flush();
+    }
+
+    private void sweepIdleBuckets() {
+        long now = System.nanoTime();
+        long sweepTime = nextSweepTime.get();
+        if (now - sweepTime < 0 || !nextSweepTime.compareAndSet(sweepTime, now + idleNanos)) {
+            return;
+        }
+
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+}
@@ -0,0 +1,30 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.model.data.RoleType;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public record RateLimitRule(String group, RequestMatcher matcher, boolean perUser, Map<RoleType, RateLimit> roleLimits,
+                            RateLimit defaultLimit) {
+
+    public static RateLimitRule perIp(String group, RequestMatcher matcher, RateLimit limit) {
+        return new RateLimitRule(group, matcher, false, Map.of(), limit);
+    }
+
+    public static RateLimitRule perUser(String group, RequestMatcher matcher, Map<RoleType, RateLimit> roleLimits,
+                                        RateLimit defaultLimit) {
+        return new RateLimitRule(group, matcher, true, Map.copyOf(roleLimits), defaultLimit);
+    }
+
+    public RateLimit limitFor(Set<RoleType> roles) {
+        return roles.stream()
+                .map(roleLimits::get)
+                .filter(Objects::nonNull)
+                .max(Comparator.comparingLong(RateLimit::capacity))
+                .orElse(defaultLimit);
+    }
+}
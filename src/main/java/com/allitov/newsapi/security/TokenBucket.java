@@ -0,0 +1,33 @@
+package com.allitov.newsapi.security;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TokenBucket {
+
+    private final AtomicReference<State> state;
+
+    public TokenBucket(RateLimit initialLimit) {
+        this.state = new AtomicReference<>(new State(initialLimit.capacity(), System.nanoTime()));
+    }
+
+    public boolean tryConsume(RateLimit limit) {
+        double tokensPerNano = (double) limit.refillTokens() / limit.refillPeriod().toNanos();
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = Math.min(limit.capacity(), current.tokens() + (now - current.refillTime()) * tokensPerNano);
+            if (tokens < 1) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                return true;
+            }
+        }
+    }
+
+    public boolean isIdle(long now, long idleNanos) {
+        return now - state.get().refillTime() > idleNanos;
+    }
+
+    private record State(double tokens, long refillTime) {}
+}
@@ -0,0 +1,5 @@
+package com.allitov.newsapi.security;
+
+import java.time.Instant;
+
+public record TokenPair(String accessToken, String refreshToken, Instant expiresAt) {}
@@ -0,0 +1,149 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.datasource.PrimaryReads;
+import com.allitov.newsapi.exception.ExceptionMessage;
+import com.allitov.newsapi.exception.InvalidTokenException;
+import com.allitov.newsapi.model.data.RoleType;
+import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.service.UserService;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.*;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+@Service
+public class TokenService {
+
+    private static final String USERNAME_CLAIM = "username";
+
+    private static final String ROLES_CLAIM = "roles";
+
+    private static final String TYPE_CLAIM = "type";
+
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private static final String ACCESS_TOKEN_TYPE = "access";
+
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final UserService userService;
+
+    private final JwtEncoder jwtEncoder;
+
+    private final JwtDecoder jwtDecoder;
+
+    private final Duration accessTokenTtl;
+
+    private final Duration refreshTokenTtl;
+
+    public TokenService(UserService userService,
+                        @Value("${app.security.token.secret}") String secret,
+                        @Value("${app.security.token.access-token-ttl}") Duration accessTokenTtl,
+                        @Value("${app.security.token.refresh-token-ttl}") Duration refreshTokenTtl) {
+        SecretKey key = new SecretKeySpec(decodeSecret(secret), "HmacSHA256");
+        this.userService = userService;
+        this.jwtEncoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        this.jwtDecoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    public TokenPair issue(User user) {
+        return issue(user, user.getTokenVersion());
+    }
+
+    private TokenPair issue(User user, Long tokenVersion) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(accessTokenTtl);
+        JwtClaimsSet accessClaims = JwtClaimsSet.builder()
+                .subject(user.getId().toString())
+                .issuedAt(now)
+                .expiresAt(expiresAt)
+                .claim(TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .claim(USERNAME_CLAIM, user.getUsername())
+                .claim(ROLES_CLAIM, user.getRoles().stream().map(RoleType::name).toList())
+                .build();
+        JwtClaimsSet refreshClaims = JwtClaimsSet.builder()
+                .subject(user.getId().toString())
+                .issuedAt(now)
+                .expiresAt(now.plus(refreshTokenTtl))
+                .claim(TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
+                .build();
+
+        return new TokenPair(encode(accessClaims), encode(refreshClaims), expiresAt);
+    }
+
+    public TokenPair refresh(String refreshToken) {
+        Jwt jwt = decode(refreshToken, REFRESH_TOKEN_TYPE);
+        Long userId = Long.valueOf(jwt.getSubject());
+        try {
+            Long tokenVersion = PrimaryReads.call(() -> userService.findTokenVersionById(userId));
+            if (!tokenVersion.toString().equals(jwt.getClaimAsString(TOKEN_VERSION_CLAIM))) {
+                throw new InvalidTokenException(ExceptionMessage.TOKEN_INVALID);
+            }
+
+            return issue(PrimaryReads.call(() -> userService.findById(userId)), tokenVersion);
+        } catch (EntityNotFoundException e) {
+            throw new InvalidTokenException(ExceptionMessage.TOKEN_INVALID);
+        }
+    }
+
+    public UserDetailsImpl authenticate(String accessToken) {
+        Jwt jwt = decode(accessToken, ACCESS_TOKEN_TYPE);
+        User user = User.builder()
+                .id(Long.valueOf(jwt.getSubject()))
+                .username(jwt.getClaimAsString(USERNAME_CLAIM))
+                .roles(jwt.getClaimAsStringList(ROLES_CLAIM).stream()
+                        .map(RoleType::valueOf)
+                        .collect(Collectors.toSet()))
+                .build();
+
+        return new UserDetailsImpl(user);
+    }
+
+    private static byte[] decodeSecret(String secret) {
+        byte[] secretBytes;
+        try {
+            secretBytes = Base64.getDecoder().decode(secret.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("app.security.token.secret must be a Base64-encoded key", e);
+        }
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(String.format(
+                    "app.security.token.secret must be at least %d bits long", MIN_SECRET_BYTES * Byte.SIZE));
+        }
+
+        return secretBytes;
+    }
+
+    private String encode(JwtClaimsSet claims) {
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+
+        return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+
+    private Jwt decode(String token, String expectedType) {
+        try {
+            Jwt jwt = jwtDecoder.decode(token);
+            if (!expectedType.equals(jwt.getClaimAsString(TYPE_CLAIM))) {
+                throw new InvalidTokenException(ExceptionMessage.TOKEN_INVALID);
+            }
+
+            return jwt;
+        } catch (JwtException e) {
+            throw new InvalidTokenException(ExceptionMessage.TOKEN_INVALID);
+        }
+    }
+}
@@ -1,25 +1,39 @@
 package com.allitov.newsapi.security;
 
+import com.allitov.newsapi.model.data.RoleType;
 import com.allitov.newsapi.model.data.User;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Getter
-@RequiredArgsConstructor
 public class UserDetailsImpl implements UserDetails {
 
+    private static final Map<RoleType, GrantedAuthority> ROLE_AUTHORITIES = Arrays.stream(RoleType.values())
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), role -> new SimpleGrantedAuthority(role.name())));
+
     private final User user;
 
+    private final List<GrantedAuthority> authorities;
+
+    public UserDetailsImpl(User user) {
+        this.user = user;
+        this.authorities = user.getRoles().stream()
+                .map(ROLE_AUTHORITIES::get)
+                .toList();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority(role.name()))
-                .toList();
+        return authorities;
     }
 
     public Long getId() {
@@ -1,20 +1,27 @@
 package com.allitov.newsapi.security;
 
+import com.allitov.newsapi.datasource.PrimaryReads;
 import com.allitov.newsapi.model.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserService userService;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return new UserDetailsImpl(userService.findUserByUsername(username));
+        return new UserDetailsImpl(PrimaryReads.call(() -> userService.findUserByUsername(username)));
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        return new UserDetailsImpl(userService.updatePassword(user.getUsername(), newPassword));
     }
 }
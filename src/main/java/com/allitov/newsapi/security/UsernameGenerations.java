@@ -0,0 +1,35 @@
+package com.allitov.newsapi.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class UsernameGenerations {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Cache<String, Long> invalidations;
+
+    UsernameGenerations(long maximumSize, Duration ttl) {
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    long current() {
+        return generation.get();
+    }
+
+    void advance(String username) {
+        invalidations.put(username, generation.incrementAndGet());
+    }
+
+    boolean changedSince(String username, long loadGeneration) {
+        Long invalidation = invalidations.getIfPresent(username);
+
+        return invalidation != null && invalidation > loadGeneration;
+    }
+}
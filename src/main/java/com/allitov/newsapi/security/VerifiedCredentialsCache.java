@@ -0,0 +1,87 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.model.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+
+@Component
+public class VerifiedCredentialsCache {
+
+    private static final String HASH_ALGORITHM = "HmacSHA256";
+
+    private final Cache<String, VerifiedCredentials> cache;
+
+    private final SecretKey hashKey;
+
+    private final UsernameGenerations generations;
+
+    public VerifiedCredentialsCache(@Value("${app.security.credentials-cache.maximum-size}") long maximumSize,
+                                    @Value("${app.security.credentials-cache.ttl}") Duration ttl)
+            throws GeneralSecurityException {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.hashKey = KeyGenerator.getInstance(HASH_ALGORITHM).generateKey();
+        this.generations = new UsernameGenerations(maximumSize, ttl);
+    }
+
+    public Authentication get(String username, String password) {
+        VerifiedCredentials credentials = cache.getIfPresent(username);
+        if (credentials == null || !MessageDigest.isEqual(credentials.secretHash(), hash(password))) {
+            return null;
+        }
+
+        return credentials.authentication();
+    }
+
+    public long generation() {
+        return generations.current();
+    }
+
+    public void put(String username, String password, Authentication authentication, long loadGeneration) {
+        VerifiedCredentials credentials = new VerifiedCredentials(hash(password), authentication);
+        cache.put(username, credentials);
+        if (generations.changedSince(username, loadGeneration)) {
+            cache.asMap().remove(username, credentials);
+        }
+    }
+
+    public void invalidate(String username) {
+        generations.advance(username);
+        cache.invalidate(username);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.previousUsername() != null) {
+            invalidate(event.previousUsername());
+        }
+    }
+
+    private byte[] hash(String password) {
+        try {
+            Mac mac = Mac.getInstance(HASH_ALGORITHM);
+            mac.init(hashKey);
+
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedCredentials(byte[] secretHash, Authentication authentication) {}
+}
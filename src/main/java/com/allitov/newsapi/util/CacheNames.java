@@ -0,0 +1,17 @@
+package com.allitov.newsapi.util;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class CacheNames {
+
+    public final String NEWS = "news";
+
+    public final String NEWS_JSON = "newsJson";
+
+    public final String NEWS_CATEGORY_ENTITY = "newsCategoryEntity";
+
+    public final String NEWS_CATEGORY_QUERIES = "newsCategoryQueries";
+
+    public final String USER_ENTITY = "userEntity";
+}
@@ -0,0 +1,72 @@
+package com.allitov.newsapi.web.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+public record EncodedJson(byte[] json, byte[] gzippedJson, String etag) {
+
+    private static final String GZIP = "gzip";
+
+    private static final String X_GZIP = "x-gzip";
+
+    private static final String ANY_CODING = "*";
+
+    private static final String QUALITY_PARAMETER = "q=";
+
+    public int size() {
+        return json.length + (gzippedJson == null ? 0 : gzippedJson.length);
+    }
+
+    public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag);
+        if (gzippedJson == null) {
+            return response.body(json);
+        }
+
+        response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(gzippedJson);
+        }
+
+        return response.body(json);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        float gzipQuality = -1;
+        float anyQuality = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            float quality = quality(parts);
+            if (name.equalsIgnoreCase(GZIP) || name.equalsIgnoreCase(X_GZIP)) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (name.equals(ANY_CODING)) {
+                anyQuality = Math.max(anyQuality, quality);
+            }
+        }
+
+        return gzipQuality >= 0 ? gzipQuality > 0 : anyQuality > 0;
+    }
+
+    private static float quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, QUALITY_PARAMETER, 0, QUALITY_PARAMETER.length())) {
+                try {
+                    return Float.parseFloat(parameter.substring(QUALITY_PARAMETER.length()).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+}
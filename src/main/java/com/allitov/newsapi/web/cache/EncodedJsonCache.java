@@ -0,0 +1,72 @@
+package com.allitov.newsapi.web.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class EncodedJsonCache {
+
+    private final CacheManager cacheManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final int gzipMinSize;
+
+    public EncodedJsonCache(CacheManager cacheManager,
+                            ObjectMapper objectMapper,
+                            @Value("${app.news.json-cache.gzip-min-size}") int gzipMinSize) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    public EncodedJson get(String cacheName, Object key, Supplier<?> body) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return encode(body.get());
+        }
+
+        try {
+            return cache.get(key, () -> encode(body.get()));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private EncodedJson encode(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+
+            return new EncodedJson(json, gzipMinSize > 0 && json.length >= gzipMinSize ? gzip(json) : null, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(gzipped)) {
+            gzipStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return gzipped.toByteArray();
+    }
+}
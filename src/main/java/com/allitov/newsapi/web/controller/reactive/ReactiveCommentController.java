@@ -0,0 +1,40 @@
+package com.allitov.newsapi.web.controller.reactive;
+
+import com.allitov.newsapi.model.service.ReactiveCommentService;
+import com.allitov.newsapi.web.dto.response.comment.CommentListResponse;
+import com.allitov.newsapi.web.dto.response.comment.CommentResponse;
+import com.allitov.newsapi.web.filter.CommentFilter;
+import com.allitov.newsapi.web.mapper.CommentMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v2/comment")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCommentController {
+
+    private final ReactiveCommentService commentService;
+
+    private final CommentMapper commentMapper;
+
+    @GetMapping("/filter")
+    public Mono<ResponseEntity<CommentListResponse>> filterBy(@Valid CommentFilter filter) {
+        return commentService.filterBy(filter)
+                .collectList()
+                .map(comments -> ResponseEntity.ok(commentMapper.commentListToCommentListResponse(comments)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CommentResponse>> findById(@PathVariable("id") Long id) {
+        return commentService.findViewById(id)
+                .map(comment -> ResponseEntity.ok(commentMapper.commentToResponse(comment)));
+    }
+}
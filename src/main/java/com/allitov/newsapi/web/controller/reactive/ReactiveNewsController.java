@@ -0,0 +1,40 @@
+package com.allitov.newsapi.web.controller.reactive;
+
+import com.allitov.newsapi.model.service.ReactiveNewsService;
+import com.allitov.newsapi.web.dto.response.news.NewsListResponse;
+import com.allitov.newsapi.web.dto.response.news.NewsResponse;
+import com.allitov.newsapi.web.filter.NewsFilter;
+import com.allitov.newsapi.web.mapper.NewsMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v2/news")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveNewsController {
+
+    private final ReactiveNewsService newsService;
+
+    private final NewsMapper newsMapper;
+
+    @GetMapping("/filter")
+    public Mono<ResponseEntity<NewsListResponse>> filterBy(@Valid NewsFilter filter) {
+        return newsService.filterBy(filter)
+                .collectList()
+                .map(news -> ResponseEntity.ok(newsMapper.newsListToNewsListResponse(news, filter.getPageSize())));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<NewsResponse>> findById(@PathVariable("id") Long id) {
+        return newsService.findViewById(id)
+                .map(news -> ResponseEntity.ok(newsMapper.newsToResponse(news)));
+    }
+}
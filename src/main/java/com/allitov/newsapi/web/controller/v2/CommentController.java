@@ -21,6 +21,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -30,6 +31,7 @@ import java.net.URI;
 @RestController
 @RequestMapping("/api/v2/comment")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "Comment controller", description = "Comment API version 2.0")
 public class CommentController {
 
@@ -144,7 +146,7 @@ public class CommentController {
     })
     @GetMapping("/{id}")
     public ResponseEntity<CommentResponse> findById(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(commentMapper.commentToResponse(commentService.findById(id)));
+        return ResponseEntity.ok(commentMapper.commentToResponse(commentService.findViewById(id)));
     }
 
     @Operation(
@@ -273,7 +275,7 @@ public class CommentController {
     public ResponseEntity<Void> updateById(@PathVariable("id") Long id,
                                            @AuthenticationPrincipal UserDetailsImpl userDetails,
                                            @Valid @RequestBody CommentRequest request) {
-        commentService.update(commentMapper.requestToComment(id, request));
+        commentService.update(commentMapper.requestToComment(id, request), userDetails.getUser());
 
         return ResponseEntity.noContent().build();
     }
@@ -326,7 +328,7 @@ public class CommentController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteById(@PathVariable("id") Long id,
                                            @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        commentService.deleteById(id);
+        commentService.deleteById(id, userDetails.getUser());
 
         return ResponseEntity.noContent().build();
     }
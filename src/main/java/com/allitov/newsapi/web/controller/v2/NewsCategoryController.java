@@ -20,6 +20,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,6 +29,7 @@ import java.net.URI;
 @RestController
 @RequestMapping("/api/v2/news-category")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "News category controller", description = "News category API version 2.0")
 public class NewsCategoryController {
 
@@ -144,7 +146,7 @@ public class NewsCategoryController {
     })
     @GetMapping("/{id}")
     public ResponseEntity<NewsCategoryResponse> findById(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(newsCategoryMapper.newsCategoryToResponse(newsCategoryService.findById(id)));
+        return ResponseEntity.ok(newsCategoryMapper.newsCategoryToResponse(newsCategoryService.findViewById(id)));
     }
 
     @Operation(
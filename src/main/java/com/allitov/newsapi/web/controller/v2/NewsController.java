@@ -3,11 +3,15 @@ package com.allitov.newsapi.web.controller.v2;
 import com.allitov.newsapi.model.data.News;
 import com.allitov.newsapi.model.service.NewsService;
 import com.allitov.newsapi.security.UserDetailsImpl;
+import com.allitov.newsapi.util.CacheNames;
+import com.allitov.newsapi.web.cache.EncodedJson;
+import com.allitov.newsapi.web.cache.EncodedJsonCache;
 import com.allitov.newsapi.web.dto.request.news.NewsRequest;
 import com.allitov.newsapi.web.dto.response.error.ErrorResponse;
 import com.allitov.newsapi.web.dto.response.news.NewsListResponse;
 import com.allitov.newsapi.web.dto.response.news.NewsResponse;
 import com.allitov.newsapi.web.filter.NewsFilter;
+import com.allitov.newsapi.web.filter.NewsSearchFilter;
 import com.allitov.newsapi.web.mapper.NewsMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,26 +25,36 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 
 @RestController
 @RequestMapping("/api/v2/news")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "News controller", description = "News API version 2.0")
 public class NewsController {
 
+    private static final String ANY_ETAG = "*";
+
     private final NewsService newsService;
 
     private final NewsMapper newsMapper;
 
+    private final EncodedJsonCache encodedJsonCache;
+
     @Operation(
             summary = "Get news by filter",
             description = "Get news by filter. " +
-                    "Returns a list of news matching the filter parameters. " +
+                    "Returns a list of news matching the filter parameters, newest first, " +
+                    "and a cursor of the next page. " +
                     "Requires any of the authorities: ['ADMIN', 'MODERATOR', 'USER']",
             security = @SecurityRequirement(name = "Basic authorisation")
     )
@@ -56,7 +70,8 @@ public class NewsController {
                     }
             ),
             @ApiResponse(
-                    description = "Returns status 400 and error message if filter has invalid values",
+                    description = "Returns status 400 and error message if filter has invalid values " +
+                            "or invalid cursor",
                     responseCode = "400",
                     content = {
                             @Content(
@@ -88,7 +103,65 @@ public class NewsController {
     })
     @GetMapping("/filter")
     public ResponseEntity<NewsListResponse> filterBy(@ParameterObject @Valid NewsFilter filter) {
-        return ResponseEntity.ok(newsMapper.newsListToNewsListResponse(newsService.filterBy(filter)));
+        return ResponseEntity.ok(
+                newsMapper.newsListToNewsListResponse(newsService.filterBy(filter), filter.getPageSize()));
+    }
+
+    @Operation(
+            summary = "Search news by content",
+            description = "Search news by content. " +
+                    "Returns a list of news matching the full-text query, most relevant first, " +
+                    "and a cursor of the next page. " +
+                    "Requires any of the authorities: ['ADMIN', 'MODERATOR', 'USER']",
+            security = @SecurityRequirement(name = "Basic authorisation")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    description = "Returns status 200 and news list if everything completed successfully",
+                    responseCode = "200",
+                    content = {
+                            @Content(
+                                    schema = @Schema(implementation = NewsListResponse.class),
+                                    mediaType = "application/json"
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    description = "Returns status 400 and error message if filter has invalid values " +
+                            "or invalid cursor",
+                    responseCode = "400",
+                    content = {
+                            @Content(
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    mediaType = "application/json"
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    description = "Returns status 401 and error message if user is not authorized",
+                    responseCode = "401",
+                    content = {
+                            @Content(
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    mediaType = "application/json"
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    description = "Returns status 403 and error message if user has no required authorities",
+                    responseCode = "403",
+                    content = {
+                            @Content(
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    mediaType = "application/json"
+                            )
+                    }
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<NewsListResponse> search(@ParameterObject @Valid NewsSearchFilter filter) {
+        return ResponseEntity.ok(
+                newsMapper.newsSearchResultsToNewsListResponse(newsService.search(filter), filter.getPageSize()));
     }
 
     @Operation(
@@ -143,8 +216,21 @@ public class NewsController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<NewsResponse> findById(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(newsMapper.newsToResponse(newsService.findById(id)));
+    public ResponseEntity<byte[]> findById(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        EncodedJson news = encodedJsonCache.get(CacheNames.NEWS_JSON, id,
+                () -> newsMapper.newsToResponse(newsService.findViewById(id)));
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ANY_ETAG.equals(ifNoneMatch.trim())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(news.etag()).build();
+        }
+        if (request.checkNotModified(news.etag())) {
+            return null;
+        }
+
+        return news.toResponse(acceptEncoding);
     }
 
     @Operation(
@@ -273,7 +359,7 @@ public class NewsController {
     public ResponseEntity<Void> updateById(@PathVariable("id") Long id,
                                            @AuthenticationPrincipal UserDetailsImpl userDetails,
                                            @Valid @RequestBody NewsRequest request) {
-        newsService.update(newsMapper.requestToNews(id, request));
+        newsService.update(newsMapper.requestToNews(id, request), userDetails.getUser());
 
         return ResponseEntity.noContent().build();
     }
@@ -326,7 +412,7 @@ public class NewsController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteById(@PathVariable("id") Long id,
                                            @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        newsService.deleteById(id);
+        newsService.deleteById(id, userDetails.getUser());
 
         return ResponseEntity.noContent().build();
     }
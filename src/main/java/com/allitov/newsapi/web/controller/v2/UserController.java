@@ -2,9 +2,12 @@ package com.allitov.newsapi.web.controller.v2;
 
 import com.allitov.newsapi.model.data.User;
 import com.allitov.newsapi.model.service.UserService;
+import com.allitov.newsapi.security.TokenService;
 import com.allitov.newsapi.security.UserDetailsImpl;
+import com.allitov.newsapi.web.dto.request.user.RefreshTokenRequest;
 import com.allitov.newsapi.web.dto.request.user.UserRequest;
 import com.allitov.newsapi.web.dto.response.error.ErrorResponse;
+import com.allitov.newsapi.web.dto.response.user.TokenResponse;
 import com.allitov.newsapi.web.dto.response.user.UserListResponse;
 import com.allitov.newsapi.web.dto.response.user.UserResponse;
 import com.allitov.newsapi.web.filter.UserFilter;
@@ -21,6 +24,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -30,6 +34,7 @@ import java.net.URI;
 @RestController
 @RequestMapping("/api/v2/user")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "User controller", description = "User API version 2.0")
 public class UserController {
 
@@ -37,6 +42,8 @@ public class UserController {
 
     private final UserMapper userMapper;
 
+    private final TokenService tokenService;
+
     @Operation(
             summary = "Get users by filter",
             description = "Get users by filter. Returns a list of users matching the filter parameters. " +
@@ -144,7 +151,7 @@ public class UserController {
     @GetMapping("/{id}")
     public ResponseEntity<UserResponse> findById(@PathVariable("id") Long id,
                                                  @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return ResponseEntity.ok(userMapper.userToResponse(userService.findById(id)));
+        return ResponseEntity.ok(userMapper.userToResponse(userService.findViewById(id)));
     }
 
     @Operation(
@@ -168,6 +175,19 @@ public class UserController {
                                     mediaType = "application/json"
                             )
                     }
+            ),
+            @ApiResponse(
+                    description = "Returns status 503 and error message if too many accounts are being created",
+                    responseCode = "503",
+                    headers = {
+                            @Header(name = "Retry-After", description = "Seconds to wait before retrying")
+                    },
+                    content = {
+                            @Content(
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    mediaType = "application/json"
+                            )
+                    }
             )
     })
     @PostMapping("/sign-up")
@@ -177,6 +197,82 @@ public class UserController {
         return ResponseEntity.created(URI.create("/api/v2/user/" + user.getId())).build();
     }
 
+    @Operation(
+            summary = "Issue token",
+            description = "Issue token. Returns access token and refresh token of the authorized user. " +
+                    "Access token is accepted by all endpoints as bearer authorisation. " +
+                    "Requires any of the authorities: ['ADMIN', 'MODERATOR', 'USER']",
+            security = @SecurityRequirement(name = "Basic authorisation")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    description = "Returns status 200 and tokens if everything completed successfully",
+                    responseCode = "200",
+                    content = {
+                            @Content(
+                                    schema = @Schema(implementation = TokenResponse.class),
+                                    mediaType = "application/json"
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    description = "Returns status 401 and error message if user is not authorized",
+                    responseCode = "401",
+                    content = {
+                            @Content(
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    mediaType = "application/json"
+                            )
+                    }
+            )
+    })
+    @PostMapping("/token")
+    public ResponseEntity<TokenResponse> issueToken(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(userMapper.tokenPairToResponse(tokenService.issue(userDetails.getUser())));
+    }
+
+    @Operation(
+            summary = "Refresh token",
+            description = "Refresh token. Returns new access token and refresh token for a valid refresh token"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    description = "Returns status 200 and tokens if everything completed successfully",
+                    responseCode = "200",
+                    content = {
+                            @Content(
+                                    schema = @Schema(implementation = TokenResponse.class),
+                                    mediaType = "application/json"
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    description = "Returns status 400 and error message if request has invalid values",
+                    responseCode = "400",
+                    content = {
+                            @Content(
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    mediaType = "application/json"
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    description = "Returns status 401 and error message if refresh token is invalid, expired " +
+                            "or revoked by a change or deletion of its user",
+                    responseCode = "401",
+                    content = {
+                            @Content(
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    mediaType = "application/json"
+                            )
+                    }
+            )
+    })
+    @PostMapping("/token/refresh")
+    public ResponseEntity<TokenResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(userMapper.tokenPairToResponse(tokenService.refresh(request.getRefreshToken())));
+    }
+
     @Operation(
             summary = "Update user by id",
             description = "Update user by id. Returns status 204. " +
@@ -0,0 +1,20 @@
+package com.allitov.newsapi.web.dto.request.user;
+
+import com.allitov.newsapi.exception.ExceptionMessage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+    @NotBlank(message = ExceptionMessage.TOKEN_BLANK_REFRESH_TOKEN)
+    @Schema(example = "eyJhbGciOiJIUzI1NiJ9...")
+    private String refreshToken;
+}
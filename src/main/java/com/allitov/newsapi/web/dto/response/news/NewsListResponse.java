@@ -1,5 +1,6 @@
 package com.allitov.newsapi.web.dto.response.news;
 
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
 import java.util.ArrayList;
@@ -9,4 +10,8 @@ import java.util.List;
 public class NewsListResponse {
 
     private List<NewsWithCommentsCount> news = new ArrayList<>();
+
+    @Schema(example = "MjAyMy0xMC0wM1QwMzo1MjoxM1pfMQ",
+            description = "Cursor of the next page. Absent if the page is the last one")
+    private String nextCursor;
 }
@@ -0,0 +1,25 @@
+package com.allitov.newsapi.web.dto.response.user;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponse {
+
+    @Schema(example = "eyJhbGciOiJIUzI1NiJ9...")
+    private String accessToken;
+
+    @Schema(example = "eyJhbGciOiJIUzI1NiJ9...")
+    private String refreshToken;
+
+    @Schema(example = "1970-01-01T00:15:00Z")
+    private Instant expiresAt;
+}
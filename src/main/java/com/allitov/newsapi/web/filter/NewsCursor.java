@@ -0,0 +1,34 @@
+package com.allitov.newsapi.web.filter;
+
+import com.allitov.newsapi.exception.ExceptionMessage;
+import com.allitov.newsapi.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+public record NewsCursor(Instant creationDate, Long id) {
+
+    private static final String SEPARATOR = "_";
+
+    public static NewsCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+
+            return new NewsCursor(
+                    Instant.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new InvalidCursorException(String.format(ExceptionMessage.FILTER_INVALID_CURSOR, token));
+        }
+    }
+
+    public String encode() {
+        String raw = creationDate.toString() + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
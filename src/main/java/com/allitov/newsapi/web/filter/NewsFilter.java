@@ -29,4 +29,8 @@ public class NewsFilter {
 
     @Schema(example = "news author name")
     private String author;
+
+    @Schema(example = "MjAyMy0xMC0wM1QwMzo1MjoxM1pfMQ",
+            description = "Cursor of the previous page (its nextCursor). Page number is ignored when specified")
+    private String after;
 }
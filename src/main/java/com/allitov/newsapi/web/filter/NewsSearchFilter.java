@@ -0,0 +1,28 @@
+package com.allitov.newsapi.web.filter;
+
+import com.allitov.newsapi.exception.ExceptionMessage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsSearchFilter {
+
+    @NotBlank(message = ExceptionMessage.NEWS_SEARCH_BLANK_QUERY)
+    @Schema(example = "sapien -nulla", description = "Web search syntax: words, \"quoted phrases\", or, -excluded")
+    private String q;
+
+    @NotNull(message = ExceptionMessage.FILTER_NULL_PAGE_SIZE)
+    @Positive(message = ExceptionMessage.FILTER_INVALID_PAGE_SIZE)
+    @Schema(example = "10", description = "Page size must be > 0")
+    private Integer pageSize;
+
+    @Schema(example = "MC4wNjA3OTI3MV8z", description = "Cursor of the previous page (its nextCursor)")
+    private String after;
+}
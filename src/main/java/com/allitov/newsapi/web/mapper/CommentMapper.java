@@ -1,6 +1,7 @@
 package com.allitov.newsapi.web.mapper;
 
 import com.allitov.newsapi.model.data.Comment;
+import com.allitov.newsapi.model.data.projection.CommentView;
 import com.allitov.newsapi.web.dto.request.comment.CommentRequest;
 import com.allitov.newsapi.web.dto.response.comment.CommentListResponse;
 import com.allitov.newsapi.web.dto.response.comment.CommentResponse;
@@ -21,11 +22,11 @@ public interface CommentMapper {
     @Mapping(source = "commentId", target = "id")
     Comment requestToComment(Long commentId, CommentRequest request);
 
-    CommentResponse commentToResponse(Comment comment);
+    CommentResponse commentToResponse(CommentView comment);
 
-    List<CommentResponse> commentListToResponseList(List<Comment> comments);
+    List<CommentResponse> commentListToResponseList(List<CommentView> comments);
 
-    default CommentListResponse commentListToCommentListResponse(List<Comment> comments) {
+    default CommentListResponse commentListToCommentListResponse(List<CommentView> comments) {
         CommentListResponse response = new CommentListResponse();
         response.setComments(commentListToResponseList(comments));
 
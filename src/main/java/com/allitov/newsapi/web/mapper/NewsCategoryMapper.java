@@ -1,6 +1,7 @@
 package com.allitov.newsapi.web.mapper;
 
 import com.allitov.newsapi.model.data.NewsCategory;
+import com.allitov.newsapi.model.data.projection.NewsCategoryView;
 import com.allitov.newsapi.web.dto.request.newscategory.NewsCategoryRequest;
 import com.allitov.newsapi.web.dto.response.newscategory.NewsCategoryListResponse;
 import com.allitov.newsapi.web.dto.response.newscategory.NewsCategoryResponse;
@@ -21,11 +22,11 @@ public interface NewsCategoryMapper {
         return category;
     }
 
-    NewsCategoryResponse newsCategoryToResponse(NewsCategory category);
+    NewsCategoryResponse newsCategoryToResponse(NewsCategoryView category);
 
-    List<NewsCategoryResponse> newsCategoryListToResponseList(List<NewsCategory> categories);
+    List<NewsCategoryResponse> newsCategoryListToResponseList(List<NewsCategoryView> categories);
 
-    default NewsCategoryListResponse newsCategoryListToNewsCategoryListResponse(List<NewsCategory> categories) {
+    default NewsCategoryListResponse newsCategoryListToNewsCategoryListResponse(List<NewsCategoryView> categories) {
         NewsCategoryListResponse response = new NewsCategoryListResponse();
         response.setNewsCategories(newsCategoryListToResponseList(categories));
 
@@ -1,10 +1,15 @@
 package com.allitov.newsapi.web.mapper;
 
 import com.allitov.newsapi.model.data.News;
+import com.allitov.newsapi.model.data.projection.NewsSearchResult;
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+import com.allitov.newsapi.model.data.projection.NewsView;
 import com.allitov.newsapi.web.dto.request.news.NewsRequest;
 import com.allitov.newsapi.web.dto.response.news.NewsListResponse;
 import com.allitov.newsapi.web.dto.response.news.NewsResponse;
 import com.allitov.newsapi.web.dto.response.news.NewsWithCommentsCount;
+import com.allitov.newsapi.web.filter.NewsCursor;
+import com.allitov.newsapi.web.filter.NewsSearchCursor;
 import com.allitov.newsapi.web.mapper.delegate.NewsMapperDelegate;
 import org.mapstruct.DecoratedWith;
 import org.mapstruct.Mapper;
@@ -23,13 +28,30 @@ public interface NewsMapper {
     @Mapping(source = "newsId", target = "id")
     News requestToNews(Long newsId, NewsRequest request);
 
-    NewsResponse newsToResponse(News news);
+    NewsResponse newsToResponse(NewsView news);
 
-    NewsWithCommentsCount newsToNewsWithCommentsCount(News news);
+    NewsWithCommentsCount newsSummaryToNewsWithCommentsCount(NewsSummary summary);
 
-    default NewsListResponse newsListToNewsListResponse(List<News> news) {
+    default NewsListResponse newsListToNewsListResponse(List<NewsSummary> news, Integer pageSize) {
         NewsListResponse response = new NewsListResponse();
-        response.setNews(news.stream().map(this::newsToNewsWithCommentsCount).collect(Collectors.toList()));
+        response.setNews(news.stream().map(this::newsSummaryToNewsWithCommentsCount).collect(Collectors.toList()));
+        if (!news.isEmpty() && news.size() == pageSize) {
+            NewsSummary last = news.get(news.size() - 1);
+            response.setNextCursor(new NewsCursor(last.creationDate(), last.id()).encode());
+        }
+
+        return response;
+    }
+
+    default NewsListResponse newsSearchResultsToNewsListResponse(List<NewsSearchResult> results, Integer pageSize) {
+        NewsListResponse response = new NewsListResponse();
+        response.setNews(results.stream()
+                .map(result -> newsSummaryToNewsWithCommentsCount(result.news()))
+                .collect(Collectors.toList()));
+        if (!results.isEmpty() && results.size() == pageSize) {
+            NewsSearchResult last = results.get(results.size() - 1);
+            response.setNextCursor(new NewsSearchCursor(last.rank(), last.news().id()).encode());
+        }
 
         return response;
     }
@@ -1,7 +1,10 @@
 package com.allitov.newsapi.web.mapper;
 
 import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.UserView;
+import com.allitov.newsapi.security.TokenPair;
 import com.allitov.newsapi.web.dto.request.user.UserRequest;
+import com.allitov.newsapi.web.dto.response.user.TokenResponse;
 import com.allitov.newsapi.web.dto.response.user.UserListResponse;
 import com.allitov.newsapi.web.dto.response.user.UserResponse;
 import org.mapstruct.Mapper;
@@ -23,11 +26,13 @@ public interface UserMapper {
     }
 
     @Mapping(source = "registrationDate", target = "regDate")
-    UserResponse userToResponse(User user);
+    UserResponse userToResponse(UserView user);
 
-    List<UserResponse> userListToResponseList(List<User> users);
+    TokenResponse tokenPairToResponse(TokenPair tokenPair);
 
-    default UserListResponse userListToUserResponseList(List<User> users) {
+    List<UserResponse> userListToResponseList(List<UserView> users);
+
+    default UserListResponse userListToUserResponseList(List<UserView> users) {
         UserListResponse response = new UserListResponse();
         response.setUsers(userListToResponseList(users));
 
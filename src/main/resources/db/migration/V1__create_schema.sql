@@ -1,13 +1,29 @@
-CREATE SCHEMA IF NOT EXISTS news_schema;
-
 CREATE TABLE IF NOT EXISTS news_schema.users (
     id BIGSERIAL PRIMARY KEY,
     username VARCHAR(50) NOT NULL,
     email VARCHAR(256) NOT NULL,
     password VARCHAR(256) NOT NULL,
-    registration_date TIMESTAMP NOT NULL
+    registration_date TIMESTAMP NOT NULL,
+    roles INTEGER NOT NULL DEFAULT 0
 );
 
+ALTER TABLE news_schema.users ADD COLUMN IF NOT EXISTS roles INTEGER NOT NULL DEFAULT 0;
+
+DO $$
+BEGIN
+    IF to_regclass('news_schema.user_roles') IS NOT NULL THEN
+        UPDATE news_schema.users u
+        SET roles = (
+            SELECT coalesce(bit_or(CASE ur.roles WHEN 'ADMIN' THEN 1 WHEN 'USER' THEN 2 WHEN 'MODERATOR' THEN 4 END), 0)
+            FROM news_schema.user_roles ur
+            WHERE ur.user_id = u.id
+        );
+
+        DROP TABLE news_schema.user_roles;
+    END IF;
+END
+$$;
+
 CREATE TABLE IF NOT EXISTS news_schema.news_categories (
     id BIGSERIAL PRIMARY KEY,
     category_name VARCHAR(50) NOT NULL
@@ -20,10 +36,13 @@ CREATE TABLE IF NOT EXISTS news_schema.news (
     last_update TIMESTAMP NOT NULL,
     author_id BIGINT NOT NULL,
     category_id BIGINT NOT NULL,
+    comments_count BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (author_id) REFERENCES news_schema.users(id) ON DELETE CASCADE,
     FOREIGN KEY (category_id) REFERENCES news_schema.news_categories(id) ON DELETE CASCADE
 );
 
+ALTER TABLE news_schema.news ADD COLUMN IF NOT EXISTS comments_count BIGINT NOT NULL DEFAULT 0;
+
 CREATE TABLE IF NOT EXISTS news_schema.comments (
     id BIGSERIAL PRIMARY KEY,
     content TEXT NOT NULL,
@@ -35,10 +54,6 @@ CREATE TABLE IF NOT EXISTS news_schema.comments (
     FOREIGN KEY (author_id) REFERENCES news_schema.users(id) ON DELETE CASCADE
 );
 
-CREATE TABLE IF NOT EXISTS news_schema.user_roles (
-    user_id BIGINT NOT NULL,
-    roles VARCHAR(20) NOT NULL,
-    CHECK (((roles)::text = ANY ((ARRAY['USER'::character varying, 'ADMIN'::character varying, 'MODERATOR'::character varying])::text[]))),
-    PRIMARY KEY (user_id, roles),
-    FOREIGN KEY (user_id) REFERENCES news_schema.users(id) ON DELETE CASCADE
-);
\ No newline at end of file
+UPDATE news_schema.news n
+SET comments_count = (SELECT count(*) FROM news_schema.comments c WHERE c.news_id = n.id)
+WHERE comments_count <> (SELECT count(*) FROM news_schema.comments c WHERE c.news_id = n.id);
\ No newline at end of file
@@ -0,0 +1,52 @@
+DO $$
+DECLARE
+    invalid_index RECORD;
+BEGIN
+    FOR invalid_index IN
+        SELECT c.relname
+        FROM pg_index i
+        JOIN pg_class c ON c.oid = i.indexrelid
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE n.nspname = 'news_schema'
+        AND NOT i.indisvalid
+        AND c.relname IN (
+            'news_creation_date_id_idx',
+            'news_content_fts_idx',
+            'news_author_id_idx',
+            'news_category_id_idx',
+            'comments_news_id_idx',
+            'comments_author_id_idx',
+            'users_username_idx',
+            'news_categories_category_name_idx'
+        )
+    LOOP
+        EXECUTE format('ALTER INDEX news_schema.%I RENAME TO %I',
+                invalid_index.relname, invalid_index.relname || '_invalid');
+    END LOOP;
+END
+$$;
+
+DROP INDEX CONCURRENTLY IF EXISTS news_schema.news_creation_date_id_idx_invalid;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS news_creation_date_id_idx ON news_schema.news (creation_date DESC, id DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS news_schema.news_content_fts_idx_invalid;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS news_content_fts_idx ON news_schema.news
+    USING GIN (to_tsvector('english', content));
+
+DROP INDEX CONCURRENTLY IF EXISTS news_schema.news_author_id_idx_invalid;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS news_author_id_idx ON news_schema.news (author_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS news_schema.news_category_id_idx_invalid;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS news_category_id_idx ON news_schema.news (category_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS news_schema.comments_news_id_idx_invalid;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS comments_news_id_idx ON news_schema.comments (news_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS news_schema.comments_author_id_idx_invalid;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS comments_author_id_idx ON news_schema.comments (author_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS news_schema.users_username_idx_invalid;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_username_idx ON news_schema.users (username);
+
+DROP INDEX CONCURRENTLY IF EXISTS news_schema.news_categories_category_name_idx_invalid;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS news_categories_category_name_idx ON news_schema.news_categories (category_name);
@@ -0,0 +1 @@
+ALTER TABLE news_schema.users ADD COLUMN IF NOT EXISTS token_version BIGINT NOT NULL DEFAULT 0;
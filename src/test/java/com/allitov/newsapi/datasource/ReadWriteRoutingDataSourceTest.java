@@ -0,0 +1,66 @@
+package com.allitov.newsapi.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private final ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(
+            Mockito.mock(DataSource.class),
+            Map.of("replica1", Mockito.mock(DataSource.class), "replica2", Mockito.mock(DataSource.class)));
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        PrimaryReads.clear();
+    }
+
+    @Test
+    @DisplayName("Test determineCurrentLookupKey() outside read-only transaction")
+    public void givenReadWriteTransaction_whenDetermineCurrentLookupKey_thenPrimary() {
+        dataSource.setAvailableReplicas(List.of("replica1", "replica2"));
+
+        assertEquals("primary", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Test determineCurrentLookupKey() in read-only transaction")
+    public void givenReadOnlyTransaction_whenDetermineCurrentLookupKey_thenReplicasInTurn() {
+        dataSource.setAvailableReplicas(List.of("replica1", "replica2"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Object firstKey = dataSource.determineCurrentLookupKey();
+        Object secondKey = dataSource.determineCurrentLookupKey();
+
+        assertTrue(List.of("replica1", "replica2").contains(firstKey));
+        assertTrue(List.of("replica1", "replica2").contains(secondKey));
+        assertNotEquals(firstKey, secondKey);
+    }
+
+    @Test
+    @DisplayName("Test determineCurrentLookupKey() in read-only transaction with forced primary reads")
+    public void givenForcedPrimaryReads_whenDetermineCurrentLookupKey_thenPrimary() {
+        dataSource.setAvailableReplicas(List.of("replica1", "replica2"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", PrimaryReads.call(dataSource::determineCurrentLookupKey));
+        assertFalse(PrimaryReads.isForced());
+    }
+
+    @Test
+    @DisplayName("Test determineCurrentLookupKey() in read-only transaction without available replicas")
+    public void givenNoAvailableReplicas_whenDetermineCurrentLookupKey_thenPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", dataSource.determineCurrentLookupKey());
+    }
+}
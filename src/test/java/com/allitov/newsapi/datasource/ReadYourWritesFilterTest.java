@@ -0,0 +1,72 @@
+package com.allitov.newsapi.datasource;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Test read after anonymous write from the same address")
+    public void givenAnonymousWrite_whenReadFromSameAddress_thenPrimaryReadsForced() throws Exception {
+        perform("POST", "203.0.113.10", HttpServletResponse.SC_CREATED);
+
+        assertTrue(perform("GET", "203.0.113.10", HttpServletResponse.SC_OK));
+        assertFalse(perform("GET", "203.0.113.20", HttpServletResponse.SC_OK));
+        assertFalse(PrimaryReads.isForced());
+    }
+
+    @Test
+    @DisplayName("Test read after authenticated write")
+    public void givenAuthenticatedWrite_whenReadBySameUser_thenPrimaryReadsForced() throws Exception {
+        authenticate("writer");
+        perform("PUT", "203.0.113.10", HttpServletResponse.SC_NO_CONTENT);
+
+        assertTrue(perform("GET", "203.0.113.20", HttpServletResponse.SC_OK));
+        authenticate("reader");
+        assertFalse(perform("GET", "203.0.113.20", HttpServletResponse.SC_OK));
+    }
+
+    @Test
+    @DisplayName("Test read after failed write")
+    public void givenFailedWrite_whenRead_thenPrimaryReadsNotForced() throws Exception {
+        perform("POST", "203.0.113.10", HttpServletResponse.SC_BAD_REQUEST);
+
+        assertFalse(perform("GET", "203.0.113.10", HttpServletResponse.SC_OK));
+    }
+
+    private boolean perform(String method, String address, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v2/news");
+        request.setRemoteAddr(address);
+        AtomicBoolean forced = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+            forced.set(PrimaryReads.isForced());
+            ((HttpServletResponse) servletResponse).setStatus(status);
+        });
+
+        return forced.get();
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+}
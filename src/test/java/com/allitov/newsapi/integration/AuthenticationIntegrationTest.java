@@ -0,0 +1,152 @@
+package com.allitov.newsapi.integration;
+
+import com.allitov.newsapi.model.data.RoleType;
+import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.repository.UserRepository;
+import com.allitov.newsapi.utils.FakeTicker;
+import com.allitov.newsapi.utils.FakeTickerConfiguration;
+import com.allitov.testutils.EnableTestcontainers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@EnableTestcontainers
+@AutoConfigureMockMvc
+@Transactional
+@Sql("classpath:db/init.sql")
+@Import(FakeTickerConfiguration.class)
+@TestPropertySource(properties = {
+        "app.security.login-attempts.max-failures=3",
+        "app.security.login-attempts.max-account-failures=5",
+        "app.security.login-attempts.lockout=15m"
+})
+public class AuthenticationIntegrationTest {
+
+    private static final String PASSWORD = "password";
+
+    private static final String WRONG_PASSWORD = "wrong-password";
+
+    private static final String CLIENT_ADDRESS = "203.0.113.10";
+
+    private static final String OTHER_CLIENT_ADDRESS = "203.0.113.20";
+
+    private static final Duration LOCKOUT = Duration.ofMinutes(15);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private FakeTicker ticker;
+
+    @Test
+    @DisplayName("Test authentication of an unknown user status 401")
+    public void givenUnknownUsername_whenAuthenticate_thenUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/v2/news-category/1")
+                        .with(httpBasic("Unknown User", PASSWORD))
+                        .with(remoteAddress(CLIENT_ADDRESS)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Test authentication of a user created after the username filter was built status 200")
+    public void givenUserCreatedAfterFilterRebuild_whenAuthenticate_thenOk() throws Exception {
+        createUser("Fresh User");
+
+        mockMvc.perform(get("/api/v2/news-category/1")
+                        .with(httpBasic("Fresh User", PASSWORD))
+                        .with(remoteAddress(CLIENT_ADDRESS)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Test authentication after too many failures status 401")
+    public void givenTooManyFailures_whenAuthenticate_thenUnauthorizedUntilLockoutExpires() throws Exception {
+        createUser("Locked User");
+        failLogins("Locked User", CLIENT_ADDRESS);
+
+        mockMvc.perform(get("/api/v2/news-category/1")
+                        .with(httpBasic("Locked User", PASSWORD))
+                        .with(remoteAddress(CLIENT_ADDRESS)))
+                .andExpect(status().isUnauthorized());
+
+        ticker.advance(LOCKOUT.plusSeconds(1));
+
+        mockMvc.perform(get("/api/v2/news-category/1")
+                        .with(httpBasic("Locked User", PASSWORD))
+                        .with(remoteAddress(CLIENT_ADDRESS)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Test authentication from another client after too many failures status 200")
+    public void givenTooManyFailuresFromOtherClient_whenAuthenticate_thenOk() throws Exception {
+        createUser("Targeted User");
+        failLogins("Targeted User", OTHER_CLIENT_ADDRESS);
+
+        mockMvc.perform(get("/api/v2/news-category/1")
+                        .with(httpBasic("Targeted User", PASSWORD))
+                        .with(remoteAddress(CLIENT_ADDRESS)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Test authentication after failures spread over many clients status 401")
+    public void givenTooManyFailuresFromManyClients_whenAuthenticate_thenUnauthorized() throws Exception {
+        createUser("Sprayed User");
+        failLogins("Sprayed User", "198.51.100.1");
+        failLogins("Sprayed User", "198.51.100.2");
+
+        mockMvc.perform(get("/api/v2/news-category/1")
+                        .with(httpBasic("Sprayed User", PASSWORD))
+                        .with(remoteAddress(CLIENT_ADDRESS)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private void createUser(String username) {
+        userRepository.save(User.builder()
+                .username(username)
+                .email(username.replace(' ', '.') + "@email.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .roles(Set.of(RoleType.USER))
+                .build());
+    }
+
+    private void failLogins(String username, String clientAddress) throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v2/news-category/1")
+                            .with(httpBasic(username, WRONG_PASSWORD))
+                            .with(remoteAddress(clientAddress)))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -158,6 +158,9 @@ public class CommentControllerIntegrationTest {
                 .andExpect(header().string("Location", "/api/v2/comment/6"));
 
         assertEquals(6, commentRepository.findAll().size());
+        mockMvc.perform(get("/api/v2/news/filter?pageSize=1&pageNumber=0"))
+                .andExpect(jsonPath("$.news[0].id").value(1))
+                .andExpect(jsonPath("$.news[0].commentsCount").value(3));
     }
 
     @Test
@@ -253,6 +256,24 @@ public class CommentControllerIntegrationTest {
         assertEquals(request.getContent(), commentRepository.findById(3L).get().getContent());
     }
 
+    @Test
+    @DisplayName("Test updateById() status 204 with different news id")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Emmey Crossland",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenIdAndCommentRequestWithDifferentNewsIdAndRoleUser_whenUpdateById_thenVoid() throws Exception {
+        CommentRequest request = createCommentRequest();
+        request.setNewsId(2L);
+        mockMvc.perform(put("/api/v2/comment/3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent());
+
+        assertEquals(2L, commentRepository.findNewsIdById(3L).get());
+    }
+
     @Test
     @DisplayName("Test updateById() status 400")
     @WithUserDetails(
@@ -333,6 +354,9 @@ public class CommentControllerIntegrationTest {
                 .andExpect(status().isNoContent());
 
         assertEquals(4, commentRepository.findAll().size());
+        mockMvc.perform(get("/api/v2/news/filter?pageSize=1&pageNumber=0"))
+                .andExpect(jsonPath("$.news[0].id").value(1))
+                .andExpect(jsonPath("$.news[0].commentsCount").value(1));
     }
 
     @Test
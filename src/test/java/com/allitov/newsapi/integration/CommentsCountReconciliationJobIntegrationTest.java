@@ -0,0 +1,100 @@
+package com.allitov.newsapi.integration;
+
+import com.allitov.newsapi.job.CommentsCountReconciliationJob;
+import com.allitov.newsapi.model.repository.NewsRepository;
+import com.allitov.testutils.EnableTestcontainers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@EnableTestcontainers
+@AutoConfigureMockMvc
+@Transactional
+@Sql("classpath:db/init.sql")
+public class CommentsCountReconciliationJobIntegrationTest {
+
+    @Autowired
+    private CommentsCountReconciliationJob commentsCountReconciliationJob;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Test reconcile() with drifted comments count")
+    public void givenDriftedCommentsCount_whenReconcile_thenCommentsCountRepaired() {
+        newsRepository.addToCommentsCount(1L, 5);
+        assertEquals(7, commentsCount(1L));
+
+        commentsCountReconciliationJob.reconcile();
+
+        assertEquals(2, commentsCount(1L));
+    }
+
+    @Test
+    @DisplayName("Test reconcile() concurrently with a comment write")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenUncommittedCommentWrite_whenReconcile_thenWriteNotLost() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    jdbcTemplate.update("insert into news_schema.comments "
+                            + "(content, creation_date, last_update, news_id, author_id) "
+                            + "values ('concurrent comment', now(), now(), 1, 1)");
+                    newsRepository.addToCommentsCount(1L, 1);
+                    written.countDown();
+                    await(commit);
+                }));
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> reconciliation = CompletableFuture.runAsync(commentsCountReconciliationJob::reconcile);
+        awaitBlockedLock();
+        commit.countDown();
+        writer.get(10, TimeUnit.SECONDS);
+        reconciliation.get(10, TimeUnit.SECONDS);
+
+        assertEquals(3, commentsCount(1L));
+    }
+
+    private void awaitBlockedLock() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject("select count(*) from pg_locks where not granted", Long.class) == 0) {
+            assertTrue(System.nanoTime() < deadline, "Reconciliation did not wait for the comment write");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long commentsCount(Long newsId) {
+        return jdbcTemplate.queryForObject(
+                "select comments_count from news_schema.news where id = ?", Long.class, newsId);
+    }
+}
@@ -0,0 +1,111 @@
+package com.allitov.newsapi.integration;
+
+import com.allitov.newsapi.util.CacheNames;
+import com.allitov.newsapi.web.dto.request.comment.CommentRequest;
+import com.allitov.newsapi.web.dto.request.news.NewsRequest;
+import com.allitov.testutils.EnableTestcontainers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@EnableTestcontainers
+@AutoConfigureMockMvc
+@Sql("classpath:db/init.sql")
+public class NewsCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private static final String USER_DETAILS_SERVICE_BEAN_NAME = "userDetailsServiceImpl";
+
+    @BeforeEach
+    @AfterEach
+    public void clearNewsCaches() {
+        for (String cacheName : List.of(CacheNames.NEWS, CacheNames.NEWS_JSON)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test findById() after updateById()")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Emmey Crossland",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenCachedNews_whenUpdateById_thenFindByIdReturnsUpdatedNews() throws Exception {
+        mockMvc.perform(get("/api/v2/news/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value(startsWith("Fusce consequat.")));
+
+        NewsRequest request = NewsRequest.builder()
+                .content("updated news content")
+                .categoryId(1L)
+                .build();
+        mockMvc.perform(put("/api/v2/news/3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v2/news/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("updated news content"))
+                .andExpect(jsonPath("$.categoryId").value(1));
+    }
+
+    @Test
+    @DisplayName("Test findById() after comment create()")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Garek Simper",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenCachedNews_whenCreateComment_thenFindByIdReturnsNewComment() throws Exception {
+        mockMvc.perform(get("/api/v2/news/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(2));
+
+        CommentRequest request = CommentRequest.builder()
+                .newsId(1L)
+                .content("new comment")
+                .build();
+        mockMvc.perform(post("/api/v2/comment")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v2/news/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(3))
+                .andExpect(jsonPath("$.comments[*].content").value(hasItem("new comment")));
+    }
+}
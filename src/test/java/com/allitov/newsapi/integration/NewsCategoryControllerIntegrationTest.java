@@ -1,5 +1,6 @@
 package com.allitov.newsapi.integration;
 
+import com.allitov.newsapi.model.data.NewsCategory;
 import com.allitov.newsapi.model.repository.NewsCategoryRepository;
 import com.allitov.newsapi.web.dto.request.newscategory.NewsCategoryRequest;
 import com.allitov.testutils.EnableTestcontainers;
@@ -54,6 +55,25 @@ public class NewsCategoryControllerIntegrationTest {
                 .andExpect(content().json("{'newsCategories': [{'id': 1, 'name': 'CDL'}]}"));
     }
 
+    @Test
+    @DisplayName("Test findById() of category missing from snapshot status 200")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Garek Simper",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenCategoryCreatedOutsideSnapshotAndRoleAdmin_whenFindById_thenNewsCategoryResponse()
+            throws Exception {
+        mockMvc.perform(get("/api/v2/news-category/filter?pageSize=10&pageNumber=0"))
+                .andExpect(status().isOk());
+        NewsCategory category = newsCategoryRepository.save(NewsCategory.builder().name("Created elsewhere").build());
+
+        mockMvc.perform(get("/api/v2/news-category/{id}", category.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{'id': " + category.getId() + ", 'name': 'Created elsewhere'}"));
+    }
+
     @Test
     @DisplayName("Test filterBy() status 400")
     @WithUserDetails(
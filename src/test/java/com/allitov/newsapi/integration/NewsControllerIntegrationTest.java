@@ -1,9 +1,14 @@
 package com.allitov.newsapi.integration;
 
+import com.allitov.newsapi.model.data.News;
+import com.allitov.newsapi.model.data.NewsCategory;
+import com.allitov.newsapi.model.repository.NewsCategoryRepository;
 import com.allitov.newsapi.model.repository.NewsRepository;
 import com.allitov.newsapi.web.dto.request.news.NewsRequest;
+import com.allitov.newsapi.web.filter.NewsCursor;
 import com.allitov.testutils.EnableTestcontainers;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +22,8 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -38,6 +45,9 @@ public class NewsControllerIntegrationTest {
     @Autowired
     private NewsRepository newsRepository;
 
+    @Autowired
+    private NewsCategoryRepository newsCategoryRepository;
+
     private static final String USER_DETAILS_SERVICE_BEAN_NAME = "userDetailsServiceImpl";
 
     @Test
@@ -62,6 +72,130 @@ public class NewsControllerIntegrationTest {
                         "]}"));
     }
 
+    @Test
+    @DisplayName("Test filterBy() with cursor status 200")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Garek Simper",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenNewsFilterWithCursorAndRoleAdmin_whenFilterBy_thenNewsListResponse() throws Exception {
+        String cursor = new NewsCursor(Instant.parse("2023-10-03T03:52:13Z"), 1L).encode();
+
+        mockMvc.perform(get("/api/v2/news/filter?pageSize=1&pageNumber=0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value(cursor));
+
+        mockMvc.perform(get("/api/v2/news/filter?pageSize=1&pageNumber=0&after={after}", cursor))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.news[0].id").value(4));
+    }
+
+    @Test
+    @DisplayName("Test search() status 200")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Garek Simper",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenNewsSearchFilterAndRoleAdmin_whenSearch_thenRankedNewsListResponse() throws Exception {
+        mockMvc.perform(get("/api/v2/news/search?q={q}&pageSize=5", "felis"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.news[*].id", Matchers.containsInAnyOrder(3, 5)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test search() with cursor status 200")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Garek Simper",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenNewsSearchFilterWithCursorAndRoleAdmin_whenSearch_thenNextPage() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/v2/news/search?q={q}&pageSize=1", "felis"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.news.length()").value(1))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+        long firstId = objectMapper.readTree(firstPage).get("news").get(0).get("id").asLong();
+
+        mockMvc.perform(get("/api/v2/news/search?q={q}&pageSize=1&after={after}", "felis", cursor))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.news.length()").value(1))
+                .andExpect(jsonPath("$.news[0].id").value(firstId == 3 ? 5 : 3));
+    }
+
+    @Test
+    @DisplayName("Test filterBy() with author status 200")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Garek Simper",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenNewsFilterWithAuthorAndRoleAdmin_whenFilterBy_thenNewsListResponse() throws Exception {
+        mockMvc.perform(get("/api/v2/news/filter?pageSize=5&pageNumber=0&author={author}", "Chas Sapshed"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.news.length()").value(3))
+                .andExpect(jsonPath("$.news[*].id").value(Matchers.contains(1, 4, 2)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test filterBy() with category status 200")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Garek Simper",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenNewsFilterWithCategoryAndRoleAdmin_whenFilterBy_thenNewsListResponse() throws Exception {
+        mockMvc.perform(get("/api/v2/news/filter?pageSize=5&pageNumber=0&category={category}", "PK/PD"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.news[*].id").value(Matchers.contains(1, 3)));
+    }
+
+    @Test
+    @DisplayName("Test filterBy() with category missing from snapshot status 200")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Garek Simper",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenNewsFilterWithCategoryCreatedOutsideSnapshotAndRoleAdmin_whenFilterBy_thenNewsListResponse()
+            throws Exception {
+        mockMvc.perform(get("/api/v2/news/filter?pageSize=5&pageNumber=0&category={category}", "PK/PD"))
+                .andExpect(status().isOk());
+        NewsCategory category = newsCategoryRepository.save(NewsCategory.builder().name("Created elsewhere").build());
+        News news = newsRepository.findById(5L).orElseThrow();
+        news.setCategory(category);
+        newsRepository.saveAndFlush(news);
+
+        mockMvc.perform(get("/api/v2/news/filter?pageSize=5&pageNumber=0&category={category}", "Created elsewhere"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.news[*].id").value(Matchers.contains(5)));
+    }
+
+    @Test
+    @DisplayName("Test filterBy() with nonexistent category status 200")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Garek Simper",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenNewsFilterWithNonexistentCategoryAndRoleAdmin_whenFilterBy_thenEmptyNewsListResponse()
+            throws Exception {
+        mockMvc.perform(get("/api/v2/news/filter?pageSize=5&pageNumber=0&category={category}", "nonexistent"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.news.length()").value(0));
+    }
+
     @Test
     @DisplayName("Test filterBy() status 400")
     @WithUserDetails(
@@ -1,6 +1,8 @@
 package com.allitov.newsapi.integration;
 
 import com.allitov.newsapi.model.repository.UserRepository;
+import com.allitov.newsapi.security.TokenService;
+import com.allitov.newsapi.web.dto.request.user.RefreshTokenRequest;
 import com.allitov.newsapi.web.dto.request.user.UserRequest;
 import com.allitov.testutils.EnableTestcontainers;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -9,11 +11,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Set;
@@ -38,6 +42,9 @@ public class UserControllerIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TokenService tokenService;
+
     private static final String USER_DETAILS_SERVICE_BEAN_NAME = "userDetailsServiceImpl";
 
     @Test
@@ -114,6 +121,77 @@ public class UserControllerIntegrationTest {
                                 "'regDate': '2023-04-14T06:02:56Z'}"));
     }
 
+    @Test
+    @DisplayName("Test findById() status 200 with access token")
+    public void givenIdAndAccessToken_whenFindById_thenUserResponse() throws Exception {
+        String accessToken = tokenService.issue(userRepository.findById(5L).get()).accessToken();
+
+        mockMvc.perform(get("/api/v2/user/5")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{'id': 5, 'username': 'Fina Sugden'}"));
+    }
+
+    @Test
+    @DisplayName("Test findById() status 401 with invalid access token")
+    public void givenIdAndInvalidAccessToken_whenFindById_thenErrorResponse() throws Exception {
+        String refreshToken = tokenService.issue(userRepository.findById(5L).get()).refreshToken();
+
+        mockMvc.perform(get("/api/v2/user/5")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + refreshToken))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{'errorMessage': 'Authentication failure'}"));
+    }
+
+    @Test
+    @DisplayName("Test refreshToken() status 200")
+    public void givenRefreshToken_whenRefreshToken_thenTokenResponse() throws Exception {
+        String refreshToken = tokenService.issue(userRepository.findById(5L).get()).refreshToken();
+
+        refreshToken(refreshToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("Test refreshToken() after user update status 401")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Fina Sugden",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenRefreshTokenIssuedBeforeUpdate_whenRefreshToken_thenErrorResponse() throws Exception {
+        String refreshToken = tokenService.issue(userRepository.findById(5L).get()).refreshToken();
+        mockMvc.perform(put("/api/v2/user/5")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createUserRequest())))
+                .andExpect(status().isNoContent());
+
+        refreshToken(refreshToken)
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().json("{'errorMessage': 'Token is invalid or expired'}"));
+    }
+
+    @Test
+    @DisplayName("Test refreshToken() after user deletion status 401")
+    @WithUserDetails(
+            userDetailsServiceBeanName = USER_DETAILS_SERVICE_BEAN_NAME,
+            value = "Fina Sugden",
+            setupBefore = TestExecutionEvent.TEST_METHOD
+    )
+    public void givenRefreshTokenOfDeletedUser_whenRefreshToken_thenErrorResponse() throws Exception {
+        String refreshToken = tokenService.issue(userRepository.findById(5L).get()).refreshToken();
+        mockMvc.perform(delete("/api/v2/user/5"))
+                .andExpect(status().isNoContent());
+
+        refreshToken(refreshToken)
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().json("{'errorMessage': 'Token is invalid or expired'}"));
+    }
+
     @Test
     @DisplayName("Test findById() status 401")
     public void givenIdAndAnonymousUser_whenFindById_thenErrorResponse() throws Exception {
@@ -322,4 +400,10 @@ public class UserControllerIntegrationTest {
                 .roles(Set.of("USER", "MODERATOR"))
                 .build();
     }
+
+    private ResultActions refreshToken(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/v2/user/token/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))));
+    }
 }
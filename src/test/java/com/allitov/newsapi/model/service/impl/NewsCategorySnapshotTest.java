@@ -0,0 +1,42 @@
+package com.allitov.newsapi.model.service.impl;
+
+import com.allitov.newsapi.model.data.projection.NewsCategoryView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NewsCategorySnapshotTest {
+
+    @Test
+    @DisplayName("Test of() with duplicate category names")
+    public void givenDuplicateNames_whenOf_thenNameMapsToAllIds() {
+        NewsCategorySnapshot snapshot = NewsCategorySnapshot.of(List.of(
+                new NewsCategoryView(3L, "Sports"),
+                new NewsCategoryView(1L, "Sports"),
+                new NewsCategoryView(2L, "Politics")
+        ));
+
+        assertEquals(List.of(1L, 3L), snapshot.idsByName().get("Sports"));
+        assertEquals(List.of(2L), snapshot.idsByName().get("Politics"));
+        assertEquals(List.of(1L, 2L, 3L), snapshot.categories().stream().map(NewsCategoryView::id).toList());
+    }
+
+    @Test
+    @DisplayName("Test with() and without()")
+    public void givenSnapshot_whenWithAndWithout_thenIdsByNameUpdated() {
+        NewsCategorySnapshot snapshot = NewsCategorySnapshot.of(List.of(
+                new NewsCategoryView(1L, "Sports"),
+                new NewsCategoryView(2L, "Politics")
+        ));
+
+        NewsCategorySnapshot renamed = snapshot.with(new NewsCategoryView(2L, "Sports"));
+        NewsCategorySnapshot removed = renamed.without(1L);
+
+        assertEquals(List.of(1L, 2L), renamed.idsByName().get("Sports"));
+        assertNull(renamed.idsByName().get("Politics"));
+        assertEquals(List.of(2L), removed.idsByName().get("Sports"));
+    }
+}
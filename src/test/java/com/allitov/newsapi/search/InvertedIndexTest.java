@@ -0,0 +1,101 @@
+package com.allitov.newsapi.search;
+
+import com.allitov.newsapi.web.filter.NewsSearchCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new InvertedIndex();
+        index.put(1L, "Storm warning issued for the coast");
+        index.put(2L, "Storm storm storm: the coast braces for a storm");
+        index.put(3L, "Local elections results announced");
+        index.put(4L, "Heat wave and storm expected on the coast");
+    }
+
+    @Test
+    @DisplayName("Test search() ranks by term frequency")
+    public void givenRequiredTerms_whenSearch_thenMatchingNewsByRank() {
+        List<SearchHit> hits = index.search(NewsQuery.parse("storm coast"), 10, null);
+
+        assertEquals(List.of(2L, 1L, 4L), newsIds(hits));
+        assertTrue(hits.get(0).rank() > hits.get(1).rank());
+    }
+
+    @Test
+    @DisplayName("Test search() with excluded term")
+    public void givenExcludedTerm_whenSearch_thenExcludedNewsSkipped() {
+        assertEquals(List.of(2L, 1L), newsIds(index.search(NewsQuery.parse("storm -heat"), 10, null)));
+    }
+
+    @Test
+    @DisplayName("Test search() with or operator")
+    public void givenOrOperator_whenSearch_thenNewsMatchingEitherClause() {
+        List<SearchHit> hits = index.search(NewsQuery.parse("elections or heat"), 10, null);
+
+        assertEquals(List.of(3L, 4L), newsIds(hits).stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Test search() with unknown term")
+    public void givenUnknownTerm_whenSearch_thenEmptyList() {
+        assertTrue(index.search(NewsQuery.parse("storm volcano"), 10, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test search() pages with cursor")
+    public void givenCursor_whenSearch_thenNextPage() {
+        List<SearchHit> firstPage = index.search(NewsQuery.parse("storm"), 2, null);
+        SearchHit last = firstPage.get(firstPage.size() - 1);
+        List<SearchHit> secondPage = index.search(NewsQuery.parse("storm"), 2,
+                new NewsSearchCursor(last.rank(), last.newsId()));
+
+        assertEquals(List.of(2L, 1L, 4L), newsIds(firstPage, secondPage));
+    }
+
+    @Test
+    @DisplayName("Test search() pages through equal ranks by id")
+    public void givenEqualRanks_whenSearchWithCursor_thenPagedById() {
+        InvertedIndex equalIndex = new InvertedIndex();
+        equalIndex.put(1L, "storm");
+        equalIndex.put(2L, "storm");
+        equalIndex.put(3L, "storm");
+
+        List<SearchHit> firstPage = equalIndex.search(NewsQuery.parse("storm"), 2, null);
+        SearchHit last = firstPage.get(firstPage.size() - 1);
+        List<SearchHit> secondPage = equalIndex.search(NewsQuery.parse("storm"), 2,
+                new NewsSearchCursor(last.rank(), last.newsId()));
+
+        assertEquals(List.of(3L, 2L, 1L), newsIds(firstPage, secondPage));
+    }
+
+    @Test
+    @DisplayName("Test search() after put() and remove()")
+    public void givenUpdatedAndRemovedNews_whenSearch_thenIndexReflectsChanges() {
+        index.put(1L, "Elections debate tonight");
+        index.remove(2L);
+
+        assertEquals(List.of(4L), newsIds(index.search(NewsQuery.parse("storm"), 10, null)));
+        assertEquals(List.of(1L, 3L), newsIds(index.search(NewsQuery.parse("elections"), 10, null))
+                .stream().sorted().toList());
+        assertEquals(3, index.size());
+    }
+
+    @SafeVarargs
+    private static List<Long> newsIds(List<SearchHit>... pages) {
+        return Arrays.stream(pages)
+                .flatMap(List::stream)
+                .map(SearchHit::newsId)
+                .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.allitov.newsapi.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NewsQueryTest {
+
+    @Test
+    @DisplayName("Test parse() of required and excluded words")
+    public void givenRequiredAndExcludedWords_whenParse_thenSingleClause() {
+        NewsQuery query = NewsQuery.parse("  Climate  change -Politics ");
+
+        assertEquals(List.of(new NewsQuery.Clause(List.of("climate", "change"), Set.of("politics"))),
+                query.clauses());
+    }
+
+    @Test
+    @DisplayName("Test parse() of or operator")
+    public void givenOrOperator_whenParse_thenClausePerAlternative() {
+        NewsQuery query = NewsQuery.parse("climate change OR weather -rain");
+
+        assertEquals(List.of(
+                new NewsQuery.Clause(List.of("climate", "change"), Set.of()),
+                new NewsQuery.Clause(List.of("weather"), Set.of("rain"))
+        ), query.clauses());
+    }
+
+    @Test
+    @DisplayName("Test parse() of dangling or operator")
+    public void givenDanglingOrOperator_whenParse_thenOperatorIgnored() {
+        NewsQuery query = NewsQuery.parse("or climate or");
+
+        assertEquals(List.of(new NewsQuery.Clause(List.of("climate"), Set.of())), query.clauses());
+    }
+
+    @Test
+    @DisplayName("Test parse() of exclusions only")
+    public void givenOnlyExcludedWords_whenParse_thenNoClauses() {
+        assertTrue(NewsQuery.parse("-climate").clauses().isEmpty());
+    }
+}
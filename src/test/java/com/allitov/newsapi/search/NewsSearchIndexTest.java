@@ -0,0 +1,90 @@
+package com.allitov.newsapi.search;
+
+import com.allitov.newsapi.model.data.projection.NewsSearchResult;
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+import com.allitov.newsapi.model.event.NewsChangedEvent;
+import com.allitov.newsapi.model.event.NewsCommentsCountChangedEvent;
+import com.allitov.newsapi.model.repository.NewsRepository;
+import com.allitov.newsapi.web.filter.NewsSearchFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class NewsSearchIndexTest {
+
+    private static final Instant CREATION_DATE = Instant.parse("2024-01-01T00:00:00Z");
+
+    private NewsRepository newsRepository;
+
+    private NewsSearchIndex newsSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        newsRepository = mock(NewsRepository.class);
+        when(newsRepository.streamAllSummaries()).thenReturn(Stream.of(
+                summary(1L, "Storm warning issued for the coast", 2L),
+                summary(2L, "Local elections results announced", 0L)
+        ));
+        newsSearchIndex = new NewsSearchIndex(newsRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+        newsSearchIndex.rebuild();
+        clearInvocations(newsRepository);
+    }
+
+    @Test
+    @DisplayName("Test search() serves summaries from memory")
+    public void givenBuiltIndex_whenSearch_thenSummariesWithoutRepositoryCalls() {
+        List<NewsSearchResult> results = newsSearchIndex.search(filter("storm"));
+
+        assertEquals(1, results.size());
+        assertEquals(summary(1L, "Storm warning issued for the coast", 2L), results.get(0).news());
+        verifyNoInteractions(newsRepository);
+    }
+
+    @Test
+    @DisplayName("Test onNewsChanged() with created, updated and deleted news")
+    public void givenNewsChangedEvents_whenSearch_thenChangesApplied() {
+        newsSearchIndex.onNewsChanged(new NewsChangedEvent(3L, summary(3L, "Storm hits the harbour", 0L)));
+        Instant lastUpdate = CREATION_DATE.plusSeconds(60);
+        newsSearchIndex.onNewsChanged(new NewsChangedEvent(1L,
+                new NewsSummary(1L, "Heat wave expected", 1L, 2L, null, lastUpdate, null)));
+        newsSearchIndex.onNewsChanged(new NewsChangedEvent(2L, null));
+
+        assertEquals(List.of(3L), newsIds(newsSearchIndex.search(filter("storm"))));
+        assertEquals(List.of(), newsIds(newsSearchIndex.search(filter("elections"))));
+        NewsSummary updated = newsSearchIndex.search(filter("heat")).get(0).news();
+        assertEquals(new NewsSummary(1L, "Heat wave expected", 1L, 2L, CREATION_DATE, lastUpdate, 2L), updated);
+        verifyNoInteractions(newsRepository);
+    }
+
+    @Test
+    @DisplayName("Test onNewsCommentsCountChanged()")
+    public void givenCommentsCountChangedEvent_whenSearch_thenNewCommentsCount() {
+        newsSearchIndex.onNewsCommentsCountChanged(new NewsCommentsCountChangedEvent(1L, 3L));
+
+        assertEquals(3L, newsSearchIndex.search(filter("storm")).get(0).news().commentsCount());
+        verifyNoInteractions(newsRepository);
+    }
+
+    private static NewsSummary summary(Long id, String content, Long commentsCount) {
+        return new NewsSummary(id, content, 1L, 1L, CREATION_DATE, CREATION_DATE, commentsCount);
+    }
+
+    private static NewsSearchFilter filter(String q) {
+        return new NewsSearchFilter(q, 10, null);
+    }
+
+    private static List<Long> newsIds(List<NewsSearchResult> results) {
+        return results.stream().map(result -> result.news().id()).toList();
+    }
+}
@@ -0,0 +1,61 @@
+package com.allitov.newsapi.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PostingListTest {
+
+    @Test
+    @DisplayName("Test forEach() after add()")
+    public void givenPostings_whenForEach_thenPostingsInOrder() {
+        PostingList postings = new PostingList();
+        postings.add(0, 1);
+        postings.add(5, 3);
+        postings.add(300, 200);
+        postings.add(1_000_000, 70_000);
+
+        List<int[]> visited = new ArrayList<>();
+        postings.forEach((doc, frequency) -> visited.add(new int[]{doc, frequency}));
+
+        assertEquals(4, postings.size());
+        assertEquals(4, visited.size());
+        assertArrayEquals(new int[]{0, 1}, visited.get(0));
+        assertArrayEquals(new int[]{5, 3}, visited.get(1));
+        assertArrayEquals(new int[]{300, 200}, visited.get(2));
+        assertArrayEquals(new int[]{1_000_000, 70_000}, visited.get(3));
+    }
+
+    @Test
+    @DisplayName("Test add() out of order")
+    public void givenDecreasingDoc_whenAdd_thenIllegalArgumentException() {
+        PostingList postings = new PostingList();
+        postings.add(10, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> postings.add(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> postings.add(3, 1));
+    }
+
+    @Test
+    @DisplayName("Test trimToSize()")
+    public void givenPostings_whenTrimToSize_thenPostingsKeptAndSizeReduced() {
+        PostingList postings = new PostingList();
+        for (int doc = 0; doc < 100; doc++) {
+            postings.add(doc, 1);
+        }
+        long sizeBeforeTrim = postings.sizeInBytes();
+
+        postings.trimToSize();
+        postings.add(100, 1);
+
+        List<Integer> docs = new ArrayList<>();
+        postings.forEach((doc, frequency) -> docs.add(doc));
+        assertTrue(postings.sizeInBytes() <= sizeBeforeTrim);
+        assertEquals(101, docs.size());
+        assertEquals(100, docs.get(100));
+    }
+}
@@ -0,0 +1,59 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.model.data.RoleType;
+import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.event.UserChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CaffeineUserCacheTest {
+
+    @Test
+    @DisplayName("Test getUserFromCache() after putUserInCache()")
+    public void givenCachedUser_whenGetUserFromCache_thenUser() {
+        CaffeineUserCache cache = new CaffeineUserCache(100, Duration.ofMinutes(1));
+        UserDetailsImpl user = createUserDetails("user");
+
+        assertNull(cache.getUserFromCache("user"));
+        cache.putUserInCache(user);
+
+        assertSame(user, cache.getUserFromCache("user"));
+    }
+
+    @Test
+    @DisplayName("Test getUserFromCache() after user change")
+    public void givenCachedUser_whenUserChanged_thenNull() {
+        CaffeineUserCache cache = new CaffeineUserCache(100, Duration.ofMinutes(1));
+        cache.putUserInCache(createUserDetails("user"));
+
+        cache.onUserChanged(new UserChangedEvent(1L, "user", "renamed"));
+
+        assertNull(cache.getUserFromCache("user"));
+    }
+
+    @Test
+    @DisplayName("Test putUserInCache() of user loaded before user change")
+    public void givenLoadStartedBeforeUserChange_whenPutUserInCache_thenNotCached() {
+        CaffeineUserCache cache = new CaffeineUserCache(100, Duration.ofMinutes(1));
+
+        assertNull(cache.getUserFromCache("user"));
+        cache.onUserChanged(new UserChangedEvent(1L, "user", "user"));
+        cache.putUserInCache(createUserDetails("user"));
+
+        assertNull(cache.getUserFromCache("user"));
+    }
+
+    private UserDetailsImpl createUserDetails(String username) {
+        return new UserDetailsImpl(User.builder()
+                .id(1L)
+                .username(username)
+                .password("password")
+                .roles(Set.of(RoleType.USER))
+                .build());
+    }
+}
@@ -0,0 +1,70 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.model.repository.UserRepository;
+import com.allitov.newsapi.utils.FakeTicker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class KnownUsernamesTest {
+
+    private static final Duration UNKNOWN_USERNAMES_TTL = Duration.ofMinutes(1);
+
+    private UserRepository userRepository;
+
+    private FakeTicker ticker;
+
+    private KnownUsernames knownUsernames;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.streamAllUsernames()).thenReturn(Stream.of("user"));
+        ticker = new FakeTicker();
+        knownUsernames = new KnownUsernames(userRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                100, 0.01, 100, UNKNOWN_USERNAMES_TTL, ticker);
+        knownUsernames.rebuild();
+    }
+
+    @Test
+    @DisplayName("Test mightExist() with unknown username")
+    public void givenUnknownUsername_whenMightExist_thenOneQueryPerWindow() {
+        assertFalse(knownUsernames.mightExist("unknown"));
+        assertFalse(knownUsernames.mightExist("unknown"));
+        verify(userRepository, times(1)).existsByUsername("unknown");
+
+        ticker.advance(UNKNOWN_USERNAMES_TTL.plusSeconds(1));
+
+        assertFalse(knownUsernames.mightExist("unknown"));
+        verify(userRepository, times(2)).existsByUsername("unknown");
+    }
+
+    @Test
+    @DisplayName("Test mightExist() with username created on another node")
+    public void givenUsernameCreatedElsewhere_whenMightExist_thenTrueWithoutFurtherQueries() {
+        when(userRepository.existsByUsername("fresh")).thenReturn(true);
+
+        assertTrue(knownUsernames.mightExist("fresh"));
+        assertTrue(knownUsernames.mightExist("fresh"));
+        verify(userRepository, times(1)).existsByUsername("fresh");
+    }
+
+    @Test
+    @DisplayName("Test mightExist() with username added after an unknown lookup")
+    public void givenUnknownUsernameAdded_whenMightExist_thenTrue() {
+        assertFalse(knownUsernames.mightExist("fresh"));
+
+        knownUsernames.add("fresh");
+
+        assertTrue(knownUsernames.mightExist("fresh"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.model.event.UserChangedEvent;
+import com.allitov.newsapi.utils.FakeTicker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginAttemptsTest {
+
+    private static final Duration LOCKOUT = Duration.ofMinutes(15);
+
+    private FakeTicker ticker;
+
+    private LoginAttempts loginAttempts;
+
+    @BeforeEach
+    public void setUp() {
+        ticker = new FakeTicker();
+        loginAttempts = new LoginAttempts(3, 10, LOCKOUT, 100, ticker);
+    }
+
+    @Test
+    @DisplayName("Test isLockedOut() after too many failures from one client")
+    public void givenTooManyFailuresFromClient_whenIsLockedOut_thenLockedOutForThatClientUntilExpiry() {
+        failLogins("user", "203.0.113.10", 3);
+
+        assertTrue(loginAttempts.isLockedOut("user", "203.0.113.10"));
+        assertFalse(loginAttempts.isLockedOut("user", "203.0.113.20"));
+
+        ticker.advance(LOCKOUT.plusSeconds(1));
+
+        assertFalse(loginAttempts.isLockedOut("user", "203.0.113.10"));
+    }
+
+    @Test
+    @DisplayName("Test isLockedOut() after failures spread over many clients")
+    public void givenFailuresFromManyClients_whenIsLockedOut_thenAccountLockedOut() {
+        for (int i = 0; i < 10; i++) {
+            failLogins("user", "203.0.113." + i, 1);
+        }
+
+        assertTrue(loginAttempts.isLockedOut("user", "198.51.100.1"));
+        assertFalse(loginAttempts.isLockedOut("other", "198.51.100.1"));
+    }
+
+    @Test
+    @DisplayName("Test recordSuccess() resets failures")
+    public void givenFailures_whenRecordSuccess_thenNotLockedOut() {
+        failLogins("user", "203.0.113.10", 2);
+        failLogins("user", "203.0.113.20", 7);
+
+        loginAttempts.recordSuccess("user", "203.0.113.10");
+        failLogins("user", "203.0.113.10", 2);
+
+        assertFalse(loginAttempts.isLockedOut("user", "203.0.113.10"));
+    }
+
+    @Test
+    @DisplayName("Test onUserChanged() with renamed user")
+    public void givenFailures_whenUserRenamed_thenPreviousUsernameNotLockedOut() {
+        failLogins("user", "203.0.113.10", 3);
+
+        loginAttempts.onUserChanged(new UserChangedEvent(1L, "user", "renamed"));
+
+        assertFalse(loginAttempts.isLockedOut("user", "203.0.113.10"));
+    }
+
+    private void failLogins(String username, String clientAddress, int count) {
+        for (int i = 0; i < count; i++) {
+            loginAttempts.recordFailure(username, clientAddress);
+        }
+    }
+}
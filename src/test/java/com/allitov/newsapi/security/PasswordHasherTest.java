@@ -0,0 +1,94 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHasherTest {
+
+    @Test
+    @DisplayName("Test encode()")
+    public void givenRawPassword_whenEncode_thenEncodedPassword() {
+        PasswordEncoder reversingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return new StringBuilder(rawPassword).reverse().toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+        PasswordHasher passwordHasher = new PasswordHasher(reversingEncoder, 1, 1, Duration.ofSeconds(5));
+        try {
+            assertEquals("drowssap", passwordHasher.encode("password"));
+        } finally {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test encode() with stuck hashing")
+    public void givenStuckHashing_whenEncode_thenServiceOverloadedException() {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHasher passwordHasher = new PasswordHasher(blockingEncoder(release), 1, 1, Duration.ofMillis(50));
+        try {
+            assertThrows(ServiceOverloadedException.class, () -> passwordHasher.encode("password"));
+        } finally {
+            release.countDown();
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test HashingPasswordEncoder encode() uses the hashing executor")
+    public void givenHashingPasswordEncoder_whenEncode_thenEncodedOnHashingThread() {
+        PasswordEncoder threadNameEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return Thread.currentThread().getName();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        PasswordHasher passwordHasher = new PasswordHasher(threadNameEncoder, 1, 1, Duration.ofSeconds(5));
+        try {
+            String encodedPassword = new HashingPasswordEncoder(threadNameEncoder, passwordHasher).encode("password");
+
+            assertTrue(encodedPassword.startsWith("password-hashing-"), encodedPassword);
+        } finally {
+            passwordHasher.shutdown();
+        }
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+    }
+}
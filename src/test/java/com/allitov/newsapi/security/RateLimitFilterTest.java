@@ -0,0 +1,160 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.model.data.RoleType;
+import com.allitov.newsapi.model.data.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class RateLimitFilterTest {
+
+    private static final String USER_ATTRIBUTE = "user";
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(List.of(
+                RateLimitRule.perIp("sign-up", new AntPathRequestMatcher("/sign-up"),
+                        new RateLimit(1, 1, Duration.ofSeconds(30))),
+                RateLimitRule.perUser("read", new AntPathRequestMatcher("/read"),
+                        Map.of(RoleType.ADMIN, new RateLimit(3, 1, Duration.ofSeconds(5))),
+                        new RateLimit(1, 1, Duration.ofSeconds(10)))
+        ), new ObjectMapper(), Duration.ofMinutes(10));
+        Filter authenticationFilter = (request, response, chain) -> {
+            if (request.getAttribute(USER_ATTRIBUTE) instanceof UserDetailsImpl userDetails) {
+                SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken
+                        .authenticated(userDetails, null, userDetails.getAuthorities()));
+            }
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new LimitedController())
+                .addFilters(authenticationFilter, rateLimitFilter)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Test rate limited request status 429")
+    public void givenExhaustedBucket_whenRequest_thenTooManyRequests() throws Exception {
+        UserDetailsImpl user = createUser(1L, RoleType.USER);
+
+        mockMvc.perform(get("/read").with(authenticated(user)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/read").with(authenticated(user)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Test rate limited request of another user status 200")
+    public void givenOtherUserExhaustedBucket_whenRequest_thenOk() throws Exception {
+        UserDetailsImpl user = createUser(1L, RoleType.USER);
+        UserDetailsImpl otherUser = createUser(2L, RoleType.USER);
+
+        mockMvc.perform(get("/read").with(authenticated(user)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/read").with(authenticated(user)))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/read").with(authenticated(otherUser)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Test rate limited request Retry-After of the caller's role")
+    public void givenRoleLimit_whenRateLimited_thenRetryAfterOfRoleLimit() throws Exception {
+        UserDetailsImpl admin = createUser(1L, RoleType.ADMIN);
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/read").with(authenticated(admin)))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/read").with(authenticated(admin)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+    }
+
+    @Test
+    @DisplayName("Test rate limited request after role change")
+    public void givenRoleChange_whenRequest_thenNewRoleLimitApplies() throws Exception {
+        UserDetailsImpl admin = createUser(1L, RoleType.ADMIN);
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/read").with(authenticated(admin)))
+                    .andExpect(status().isOk());
+        }
+
+        UserDetailsImpl demotedUser = createUser(1L, RoleType.USER);
+        mockMvc.perform(get("/read").with(authenticated(demotedUser)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"));
+    }
+
+    @Test
+    @DisplayName("Test rate limited anonymous request per client address")
+    public void givenExhaustedAddressBucket_whenRequestFromOtherAddress_thenOk() throws Exception {
+        mockMvc.perform(get("/sign-up").with(remoteAddress("203.0.113.10")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/sign-up").with(remoteAddress("203.0.113.10")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+        mockMvc.perform(get("/sign-up").with(remoteAddress("203.0.113.20")))
+                .andExpect(status().isOk());
+    }
+
+    private UserDetailsImpl createUser(Long id, RoleType role) {
+        return new UserDetailsImpl(User.builder()
+                .id(id)
+                .username("User " + id)
+                .roles(new HashSet<>(Set.of(role)))
+                .build());
+    }
+
+    private static RequestPostProcessor authenticated(UserDetailsImpl user) {
+        return request -> {
+            request.setAttribute(USER_ATTRIBUTE, user);
+            return request;
+        };
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    @RestController
+    static class LimitedController {
+
+        @GetMapping({"/read", "/sign-up"})
+        public String get() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.allitov.newsapi.security;
+
+import com.allitov.newsapi.model.event.UserChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VerifiedCredentialsCacheTest {
+
+    private static final Authentication AUTHENTICATION =
+            UsernamePasswordAuthenticationToken.authenticated("user", null, List.of());
+
+    @Test
+    @DisplayName("Test get() with matching password")
+    public void givenCachedCredentials_whenGetWithSamePassword_thenAuthentication() throws Exception {
+        VerifiedCredentialsCache cache = new VerifiedCredentialsCache(100, Duration.ofMinutes(1));
+        cache.put("user", "password", AUTHENTICATION, cache.generation());
+
+        assertSame(AUTHENTICATION, cache.get("user", "password"));
+        assertNull(cache.get("user", "other-password"));
+    }
+
+    @Test
+    @DisplayName("Test get() after user change")
+    public void givenCachedCredentials_whenUserChanged_thenNull() throws Exception {
+        VerifiedCredentialsCache cache = new VerifiedCredentialsCache(100, Duration.ofMinutes(1));
+        cache.put("user", "password", AUTHENTICATION, cache.generation());
+
+        cache.onUserChanged(new UserChangedEvent(1L, "user", "renamed"));
+
+        assertNull(cache.get("user", "password"));
+    }
+
+    @Test
+    @DisplayName("Test put() of credentials loaded before user change")
+    public void givenLoadStartedBeforeUserChange_whenPut_thenNotCached() throws Exception {
+        VerifiedCredentialsCache cache = new VerifiedCredentialsCache(100, Duration.ofMinutes(1));
+        long generation = cache.generation();
+
+        cache.onUserChanged(new UserChangedEvent(1L, "user", "user"));
+        cache.put("user", "password", AUTHENTICATION, generation);
+
+        assertNull(cache.get("user", "password"));
+    }
+
+    @Test
+    @DisplayName("Test put() of credentials loaded before another user change")
+    public void givenLoadStartedBeforeOtherUserChange_whenPut_thenCached() throws Exception {
+        VerifiedCredentialsCache cache = new VerifiedCredentialsCache(100, Duration.ofMinutes(1));
+        long generation = cache.generation();
+
+        cache.onUserChanged(new UserChangedEvent(2L, "other", "other"));
+        cache.put("user", "password", AUTHENTICATION, generation);
+
+        assertSame(AUTHENTICATION, cache.get("user", "password"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.allitov.newsapi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterTest {
+
+    @Test
+    @DisplayName("Test mightContain() for added values")
+    public void givenAddedValues_whenMightContain_thenTrue() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> filter.put("user" + i));
+
+        IntStream.range(0, 1000).forEach(i -> assertTrue(filter.mightContain("user" + i)));
+    }
+
+    @Test
+    @DisplayName("Test mightContain() false positive rate")
+    public void givenAbsentValues_whenMightContain_thenFalsePositiveRateIsBounded() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> filter.put("user" + i));
+
+        long falsePositives = IntStream.range(0, 10000)
+                .filter(i -> filter.mightContain("absent" + i))
+                .count();
+
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+    }
+}
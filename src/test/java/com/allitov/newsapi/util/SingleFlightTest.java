@@ -0,0 +1,161 @@
+package com.allitov.newsapi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    private static final int FOLLOWERS = 8;
+
+    @Test
+    @DisplayName("Test load() coalesces concurrent loads of the same key")
+    public void givenConcurrentLoadsOfSameKey_whenLoad_thenLoaderCalledOnce() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentLinkedQueue<String> results = new ConcurrentLinkedQueue<>();
+
+        Thread leader = new Thread(() -> results.add(singleFlight.load(1L, key -> {
+            loaderCalls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+
+            return "news " + key;
+        })));
+        leader.start();
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        List<Thread> followers = startFollowers(() -> results.add(singleFlight.load(1L, key -> {
+            loaderCalls.incrementAndGet();
+
+            return "other " + key;
+        })));
+        release.countDown();
+        join(leader, followers);
+
+        assertEquals(1, loaderCalls.get());
+        assertEquals(FOLLOWERS + 1, results.size());
+        results.forEach(result -> assertEquals("news 1", result));
+    }
+
+    @Test
+    @DisplayName("Test load() rethrows the leader's exception to followers")
+    public void givenFailingLoader_whenLoad_thenFollowersGetSameException() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        IllegalStateException failure = new IllegalStateException("Load failed");
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        Thread leader = new Thread(() -> collectError(errors, () -> singleFlight.load(1L, key -> {
+            leaderStarted.countDown();
+            await(release);
+
+            throw failure;
+        })));
+        leader.start();
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        List<Thread> followers = startFollowers(() -> collectError(errors, () -> singleFlight.load(1L, key -> "news")));
+        release.countDown();
+        join(leader, followers);
+
+        assertEquals(FOLLOWERS + 1, errors.size());
+        errors.forEach(error -> assertSame(failure, error));
+    }
+
+    @Test
+    @DisplayName("Test load() after a finished load")
+    public void givenFinishedLoad_whenLoad_thenLoaderCalledAgain() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        singleFlight.load(1L, key -> "news " + loaderCalls.incrementAndGet());
+        assertThrows(IllegalStateException.class, () -> singleFlight.load(1L, key -> {
+            loaderCalls.incrementAndGet();
+            throw new IllegalStateException("Load failed");
+        }));
+        String result = singleFlight.load(1L, key -> "news " + loaderCalls.incrementAndGet());
+
+        assertEquals("news 3", result);
+    }
+
+    @Test
+    @DisplayName("Test load() inside a transaction does not join a running load")
+    public void givenActiveTransaction_whenLoad_thenOwnLoaderCalled() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread leader = new Thread(() -> singleFlight.load(1L, key -> {
+            leaderStarted.countDown();
+            await(release);
+
+            return "committed news";
+        }));
+        leader.start();
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertEquals("uncommitted news", singleFlight.load(1L, key -> "uncommitted news"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            release.countDown();
+        }
+        leader.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private static List<Thread> startFollowers(Runnable follower) throws InterruptedException {
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            Thread thread = new Thread(follower);
+            thread.start();
+            followers.add(thread);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread thread : followers) {
+            while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertEquals(Thread.State.WAITING, thread.getState());
+        }
+
+        return followers;
+    }
+
+    private static void join(Thread leader, List<Thread> followers) throws InterruptedException {
+        leader.join(TimeUnit.SECONDS.toMillis(5));
+        for (Thread thread : followers) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private static void collectError(ConcurrentLinkedQueue<Throwable> errors, Runnable load) {
+        try {
+            load.run();
+        } catch (RuntimeException e) {
+            errors.add(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.allitov.newsapi.utils;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+@TestConfiguration
+public class FakeTickerConfiguration {
+
+    @Bean
+    @Primary
+    public FakeTicker fakeTicker() {
+        return new FakeTicker();
+    }
+}
@@ -0,0 +1,16 @@
+package com.allitov.newsapi.utils;
+
+import com.allitov.newsapi.util.CacheNames;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class NewsJsonCacheConfiguration {
+
+    @Bean
+    public CacheManager cacheManager() {
+        return new CaffeineCacheManager(CacheNames.NEWS_JSON);
+    }
+}
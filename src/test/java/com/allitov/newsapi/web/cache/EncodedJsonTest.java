@@ -0,0 +1,43 @@
+package com.allitov.newsapi.web.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EncodedJsonTest {
+
+    private static final byte[] JSON = "{\"id\": 1}".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] GZIPPED_JSON = {31, -117, 8};
+
+    private final EncodedJson encodedJson = new EncodedJson(JSON, GZIPPED_JSON, "\"etag\"");
+
+    @ParameterizedTest
+    @DisplayName("Test toResponse() with gzip accepted")
+    @ValueSource(strings = {"gzip", "deflate, gzip", "GZIP;q=0.5", "br;q=1.0, gzip;q=0.1", "x-gzip", "*", "identity, *;q=0.8"})
+    public void givenGzipAccepted_whenToResponse_thenGzippedBody(String acceptEncoding) {
+        ResponseEntity<byte[]> response = encodedJson.toResponse(acceptEncoding);
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(GZIPPED_JSON, response.getBody());
+    }
+
+    @ParameterizedTest
+    @DisplayName("Test toResponse() with gzip not accepted")
+    @NullSource
+    @ValueSource(strings = {"", "identity", "gzip;q=0", "gzip; q=0.0, deflate", "*;q=0", "gzip;q=0, *", "deflate"})
+    public void givenGzipNotAccepted_whenToResponse_thenPlainBody(String acceptEncoding) {
+        ResponseEntity<byte[]> response = encodedJson.toResponse(acceptEncoding);
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(JSON, response.getBody());
+        assertEquals("\"etag\"", response.getHeaders().getETag());
+    }
+}
@@ -0,0 +1,142 @@
+package com.allitov.newsapi.web.controller.reactive;
+
+import com.allitov.newsapi.model.data.projection.CommentView;
+import com.allitov.newsapi.model.service.ReactiveCommentService;
+import com.allitov.newsapi.web.dto.response.comment.CommentListResponse;
+import com.allitov.newsapi.web.dto.response.comment.CommentResponse;
+import com.allitov.newsapi.web.filter.CommentFilter;
+import com.allitov.newsapi.web.mapper.CommentMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+@WebFluxTest(value = ReactiveCommentController.class, excludeAutoConfiguration = {
+        ReactiveSecurityAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class
+})
+public class ReactiveCommentControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveCommentService commentService;
+
+    @MockBean
+    private CommentMapper commentMapper;
+
+    @Test
+    @DisplayName("Test filterBy() status 200")
+    public void givenCommentFilter_whenFilterBy_thenCommentListResponse() {
+        CommentFilter filter = new CommentFilter();
+        filter.setNewsId(1L);
+        List<CommentView> foundComments = Collections.emptyList();
+        CommentListResponse response = new CommentListResponse();
+
+        Mockito.when(commentService.filterBy(filter))
+                .thenReturn(Flux.fromIterable(foundComments));
+        Mockito.when(commentMapper.commentListToCommentListResponse(foundComments))
+                .thenReturn(response);
+
+        webTestClient.get()
+                .uri("/api/v2/comment/filter?newsId={newsId}", filter.getNewsId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().json("{'comments': []}");
+
+        Mockito.verify(commentService, Mockito.times(1))
+                .filterBy(filter);
+        Mockito.verify(commentMapper, Mockito.times(1))
+                .commentListToCommentListResponse(foundComments);
+    }
+
+    @Test
+    @DisplayName("Test filterBy() without news id")
+    public void givenEmptyCommentFilter_whenFilterBy_thenErrorResponse() {
+        webTestClient.get()
+                .uri("/api/v2/comment/filter")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().json("{'errorMessage': 'News id must be specified'}");
+
+        Mockito.verifyNoInteractions(commentService);
+    }
+
+    @Test
+    @DisplayName("Test findById() status 200")
+    public void givenId_whenFindById_thenCommentResponse() {
+        Long id = 1L;
+        CommentView comment = new CommentView(id, "content", 1L, 1L, null, null);
+        CommentResponse response = createCommentResponse();
+
+        Mockito.when(commentService.findViewById(id))
+                .thenReturn(Mono.just(comment));
+        Mockito.when(commentMapper.commentToResponse(comment))
+                .thenReturn(response);
+
+        webTestClient.get()
+                .uri("/api/v2/comment/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().json(
+                        "{'id': 1, " +
+                                "'content': 'content', " +
+                                "'authorId': 1, " +
+                                "'newsId': 1, " +
+                                "'creationDate': '1970-01-01T00:00:00Z', " +
+                                "'lastUpdate': '1970-01-01T00:00:00Z'}");
+
+        Mockito.verify(commentService, Mockito.times(1))
+                .findViewById(id);
+        Mockito.verify(commentMapper, Mockito.times(1))
+                .commentToResponse(comment);
+    }
+
+    @Test
+    @DisplayName("Test findById() with nonexistent id")
+    public void givenNonexistentId_whenFindById_thenErrorResponse() {
+        Long id = 1L;
+
+        Mockito.when(commentService.findViewById(id))
+                .thenReturn(Mono.error(new EntityNotFoundException(
+                        String.format("Comment with id = '%d' not found", id))));
+
+        webTestClient.get()
+                .uri("/api/v2/comment/{id}", id)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().json(String.format("{'errorMessage': \"Comment with id = '%d' not found\"}", id));
+
+        Mockito.verify(commentService, Mockito.times(1))
+                .findViewById(id);
+    }
+
+    private CommentResponse createCommentResponse() {
+        return CommentResponse.builder()
+                .id(1L)
+                .content("content")
+                .authorId(1L)
+                .newsId(1L)
+                .creationDate(Instant.parse("1970-01-01T00:00:00Z"))
+                .lastUpdate(Instant.parse("1970-01-01T00:00:00Z"))
+                .build();
+    }
+}
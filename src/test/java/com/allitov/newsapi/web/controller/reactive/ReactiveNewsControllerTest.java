@@ -0,0 +1,147 @@
+package com.allitov.newsapi.web.controller.reactive;
+
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+import com.allitov.newsapi.model.data.projection.NewsView;
+import com.allitov.newsapi.model.service.ReactiveNewsService;
+import com.allitov.newsapi.web.dto.response.news.NewsListResponse;
+import com.allitov.newsapi.web.dto.response.news.NewsResponse;
+import com.allitov.newsapi.web.filter.NewsFilter;
+import com.allitov.newsapi.web.mapper.NewsMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+@WebFluxTest(value = ReactiveNewsController.class, excludeAutoConfiguration = {
+        ReactiveSecurityAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class
+})
+public class ReactiveNewsControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveNewsService newsService;
+
+    @MockBean
+    private NewsMapper newsMapper;
+
+    @Test
+    @DisplayName("Test filterBy() status 200")
+    public void givenNewsFilter_whenFilterBy_thenNewsListResponse() {
+        NewsFilter filter = new NewsFilter();
+        filter.setPageSize(1);
+        filter.setPageNumber(1);
+        List<NewsSummary> foundNews = Collections.emptyList();
+        NewsListResponse response = new NewsListResponse();
+
+        Mockito.when(newsService.filterBy(filter))
+                .thenReturn(Flux.fromIterable(foundNews));
+        Mockito.when(newsMapper.newsListToNewsListResponse(foundNews, filter.getPageSize()))
+                .thenReturn(response);
+
+        webTestClient.get()
+                .uri("/api/v2/news/filter?pageSize={pageSize}&pageNumber={pageNumber}",
+                        filter.getPageSize(), filter.getPageNumber())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().json("{'news': []}");
+
+        Mockito.verify(newsService, Mockito.times(1))
+                .filterBy(filter);
+        Mockito.verify(newsMapper, Mockito.times(1))
+                .newsListToNewsListResponse(foundNews, filter.getPageSize());
+    }
+
+    @Test
+    @DisplayName("Test filterBy() with invalid filter")
+    public void givenInvalidNewsFilter_whenFilterBy_thenErrorResponse() {
+        webTestClient.get()
+                .uri("/api/v2/news/filter?pageSize={pageSize}&pageNumber={pageNumber}", 1, -1)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.errorMessage").isNotEmpty();
+
+        Mockito.verifyNoInteractions(newsService);
+    }
+
+    @Test
+    @DisplayName("Test findById() status 200")
+    public void givenId_whenFindById_thenNewsResponse() {
+        Long id = 1L;
+        NewsView news = new NewsView(id, "content", 1L, 1L, null, null);
+        NewsResponse response = createNewsResponse();
+
+        Mockito.when(newsService.findViewById(id))
+                .thenReturn(Mono.just(news));
+        Mockito.when(newsMapper.newsToResponse(news))
+                .thenReturn(response);
+
+        webTestClient.get()
+                .uri("/api/v2/news/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().json(
+                        "{'id': 1, " +
+                                "'content': 'content', " +
+                                "'authorId': 1, " +
+                                "'categoryId': 1," +
+                                "'creationDate': '1970-01-01T00:00:00Z'," +
+                                "'lastUpdate': '1970-01-01T00:00:00Z', " +
+                                "'comments': []}");
+
+        Mockito.verify(newsService, Mockito.times(1))
+                .findViewById(id);
+        Mockito.verify(newsMapper, Mockito.times(1))
+                .newsToResponse(news);
+    }
+
+    @Test
+    @DisplayName("Test findById() with nonexistent id")
+    public void givenNonexistentId_whenFindById_thenErrorResponse() {
+        Long id = 1L;
+
+        Mockito.when(newsService.findViewById(id))
+                .thenReturn(Mono.error(new EntityNotFoundException(
+                        String.format("News with id = '%d' not found", id))));
+
+        webTestClient.get()
+                .uri("/api/v2/news/{id}", id)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().json(String.format("{'errorMessage': \"News with id = '%d' not found\"}", id));
+
+        Mockito.verify(newsService, Mockito.times(1))
+                .findViewById(id);
+    }
+
+    private NewsResponse createNewsResponse() {
+        return NewsResponse.builder()
+                .id(1L)
+                .content("content")
+                .authorId(1L)
+                .categoryId(1L)
+                .creationDate(Instant.parse("1970-01-01T00:00:00Z"))
+                .lastUpdate(Instant.parse("1970-01-01T00:00:00Z"))
+                .comments(Collections.emptyList())
+                .build();
+    }
+}
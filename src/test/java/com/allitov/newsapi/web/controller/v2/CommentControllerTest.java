@@ -1,7 +1,12 @@
 package com.allitov.newsapi.web.controller.v2;
 
 import com.allitov.newsapi.model.data.Comment;
+import com.allitov.newsapi.model.data.RoleType;
+import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.CommentView;
 import com.allitov.newsapi.model.service.CommentService;
+import com.allitov.newsapi.security.UserDetailsImpl;
+import com.allitov.newsapi.utils.AuthenticationPrincipalConfiguration;
 import com.allitov.newsapi.web.dto.request.comment.CommentRequest;
 import com.allitov.newsapi.web.dto.response.comment.CommentListResponse;
 import com.allitov.newsapi.web.dto.response.comment.CommentResponse;
@@ -9,6 +14,7 @@ import com.allitov.newsapi.web.filter.CommentFilter;
 import com.allitov.newsapi.web.mapper.CommentMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,18 +25,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.test.context.TestSecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(value = CommentController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class)
+@Import(AuthenticationPrincipalConfiguration.class)
 public class CommentControllerTest {
 
     @Autowired
@@ -45,6 +56,18 @@ public class CommentControllerTest {
     @MockBean
     private CommentMapper commentMapper;
 
+    private final UserDetailsImpl userDetails = new UserDetailsImpl(User.builder()
+            .id(1L)
+            .username("username")
+            .roles(Set.of(RoleType.USER))
+            .build());
+
+    @BeforeEach
+    public void authenticate() {
+        TestSecurityContextHolder.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                userDetails, null, userDetails.getAuthorities()));
+    }
+
     // Methods tests
 
     @Test
@@ -52,7 +75,7 @@ public class CommentControllerTest {
     public void givenCommentFilter_whenFilterBy_thenCommentListResponse() throws Exception {
         CommentFilter filter = new CommentFilter();
         filter.setNewsId(1L);
-        List<Comment> foundComments = Collections.emptyList();
+        List<CommentView> foundComments = Collections.emptyList();
         CommentListResponse response = new CommentListResponse();
 
         Mockito.when(commentService.filterBy(filter))
@@ -75,10 +98,10 @@ public class CommentControllerTest {
     @DisplayName("Test findById() status 200")
     public void givenId_whenFindById_thenCommentResponse() throws Exception {
         Long id = 1L;
-        Comment comment = new Comment();
+        CommentView comment = new CommentView(id, "content", 1L, 1L, null, null);
         CommentResponse response = createCommentResponse();
 
-        Mockito.when(commentService.findById(id))
+        Mockito.when(commentService.findViewById(id))
                 .thenReturn(comment);
         Mockito.when(commentMapper.commentToResponse(comment))
                 .thenReturn(response);
@@ -96,7 +119,7 @@ public class CommentControllerTest {
                 );
 
         Mockito.verify(commentService, Mockito.times(1))
-                .findById(id);
+                .findViewById(id);
         Mockito.verify(commentMapper, Mockito.times(1))
                 .commentToResponse(comment);
     }
@@ -106,7 +129,7 @@ public class CommentControllerTest {
     public void givenNonexistentId_whenFindById_thenErrorResponse() throws Exception {
         Long id = 1L;
 
-        Mockito.when(commentService.findById(id))
+        Mockito.when(commentService.findViewById(id))
                 .thenThrow(new EntityNotFoundException(String.format("Comment with id = '%d' not found", id)));
 
         mockMvc.perform(get("/api/v2/comment/{id}", id))
@@ -115,7 +138,7 @@ public class CommentControllerTest {
                 .andExpect(content().json(String.format("{'errorMessage': \"Comment with id = '%d' not found\"}", id)));
 
         Mockito.verify(commentService, Mockito.times(1))
-                .findById(id);
+                .findViewById(id);
     }
 
     @Test
@@ -153,7 +176,7 @@ public class CommentControllerTest {
 
         Mockito.when(commentMapper.requestToComment(id, request))
                 .thenReturn(comment);
-        Mockito.when(commentService.update(comment))
+        Mockito.when(commentService.update(comment, userDetails.getUser()))
                 .thenReturn(comment);
 
         mockMvc.perform(put("/api/v2/comment/{id}", id)
@@ -164,7 +187,7 @@ public class CommentControllerTest {
         Mockito.verify(commentMapper, Mockito.times(1))
                 .requestToComment(id, request);
         Mockito.verify(commentService, Mockito.times(1))
-                .update(comment);
+                .update(comment, userDetails.getUser());
     }
 
     @Test
@@ -177,7 +200,7 @@ public class CommentControllerTest {
 
         Mockito.when(commentMapper.requestToComment(id, request))
                 .thenReturn(comment);
-        Mockito.when(commentService.update(comment))
+        Mockito.when(commentService.update(comment, userDetails.getUser()))
                 .thenThrow(new EntityNotFoundException(String.format("Comment with id = '%d' not found", id)));
 
         mockMvc.perform(put("/api/v2/comment/{id}", id)
@@ -190,7 +213,7 @@ public class CommentControllerTest {
         Mockito.verify(commentMapper, Mockito.times(1))
                 .requestToComment(id, request);
         Mockito.verify(commentService, Mockito.times(1))
-                .update(comment);
+                .update(comment, userDetails.getUser());
     }
 
     @Test
@@ -202,7 +225,7 @@ public class CommentControllerTest {
                 .andExpect(status().isNoContent());
 
         Mockito.verify(commentService, Mockito.times(1))
-                .deleteById(id);
+                .deleteById(id, userDetails.getUser());
     }
 
     // Validation tests
@@ -1,6 +1,7 @@
 package com.allitov.newsapi.web.controller.v2;
 
 import com.allitov.newsapi.model.data.NewsCategory;
+import com.allitov.newsapi.model.data.projection.NewsCategoryView;
 import com.allitov.newsapi.model.service.NewsCategoryService;
 import com.allitov.newsapi.web.dto.request.newscategory.NewsCategoryRequest;
 import com.allitov.newsapi.web.dto.response.newscategory.NewsCategoryListResponse;
@@ -53,7 +54,7 @@ public class NewsCategoryControllerTest {
         NewsCategoryFilter filter = new NewsCategoryFilter();
         filter.setPageNumber(1);
         filter.setPageSize(1);
-        List<NewsCategory> foundNewsCategories = Collections.emptyList();
+        List<NewsCategoryView> foundNewsCategories = Collections.emptyList();
         NewsCategoryListResponse response = new NewsCategoryListResponse();
 
         Mockito.when(newsCategoryService.filterBy(filter))
@@ -77,10 +78,10 @@ public class NewsCategoryControllerTest {
     @DisplayName("Test findById() status 200")
     public void givenId_whenFindById_thenNewsCategoryResponse() throws Exception {
         Long id = 1L;
-        NewsCategory newsCategory = new NewsCategory();
+        NewsCategoryView newsCategory = new NewsCategoryView(id, "name");
         NewsCategoryResponse response = createNewsCategoryResponse();
 
-        Mockito.when(newsCategoryService.findById(id))
+        Mockito.when(newsCategoryService.findViewById(id))
                 .thenReturn(newsCategory);
         Mockito.when(newsCategoryMapper.newsCategoryToResponse(newsCategory))
                 .thenReturn(response);
@@ -91,7 +92,7 @@ public class NewsCategoryControllerTest {
                 .andExpect(content().json("{'id': 1, 'name': 'News category'}"));
 
         Mockito.verify(newsCategoryService, Mockito.times(1))
-                .findById(id);
+                .findViewById(id);
         Mockito.verify(newsCategoryMapper, Mockito.times(1))
                 .newsCategoryToResponse(newsCategory);
     }
@@ -101,7 +102,7 @@ public class NewsCategoryControllerTest {
     public void givenNonexistentId_whenFindById_thenErrorResponse() throws Exception {
         Long id = 1L;
 
-        Mockito.when(newsCategoryService.findById(id))
+        Mockito.when(newsCategoryService.findViewById(id))
                 .thenThrow(new EntityNotFoundException(String.format("News category with id = '%d' not found", id)));
 
         mockMvc.perform(get("/api/v2/news-category/{id}", id))
@@ -111,7 +112,7 @@ public class NewsCategoryControllerTest {
                         String.format("{'errorMessage': \"News category with id = '%d' not found\"}", id)));
 
         Mockito.verify(newsCategoryService, Mockito.times(1))
-                .findById(id);
+                .findViewById(id);
     }
 
     @Test
@@ -1,14 +1,27 @@
 package com.allitov.newsapi.web.controller.v2;
 
+import com.allitov.newsapi.exception.InvalidCursorException;
 import com.allitov.newsapi.model.data.News;
+import com.allitov.newsapi.model.data.RoleType;
+import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.NewsSearchResult;
+import com.allitov.newsapi.model.data.projection.NewsSummary;
+import com.allitov.newsapi.model.data.projection.NewsView;
 import com.allitov.newsapi.model.service.NewsService;
+import com.allitov.newsapi.security.UserDetailsImpl;
+import com.allitov.newsapi.util.CacheNames;
+import com.allitov.newsapi.utils.AuthenticationPrincipalConfiguration;
+import com.allitov.newsapi.utils.NewsJsonCacheConfiguration;
+import com.allitov.newsapi.web.cache.EncodedJsonCache;
 import com.allitov.newsapi.web.dto.request.news.NewsRequest;
 import com.allitov.newsapi.web.dto.response.news.NewsListResponse;
 import com.allitov.newsapi.web.dto.response.news.NewsResponse;
 import com.allitov.newsapi.web.filter.NewsFilter;
+import com.allitov.newsapi.web.filter.NewsSearchFilter;
 import com.allitov.newsapi.web.mapper.NewsMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,18 +32,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.test.context.TestSecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(value = NewsController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class)
+@Import({EncodedJsonCache.class, NewsJsonCacheConfiguration.class, AuthenticationPrincipalConfiguration.class})
 public class NewsControllerTest {
 
     @Autowired
@@ -39,12 +60,32 @@ public class NewsControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @MockBean
     private NewsService newsService;
 
     @MockBean
     private NewsMapper newsMapper;
 
+    private final UserDetailsImpl userDetails = new UserDetailsImpl(User.builder()
+            .id(1L)
+            .username("username")
+            .roles(Set.of(RoleType.USER))
+            .build());
+
+    @BeforeEach
+    public void clearNewsJsonCache() {
+        cacheManager.getCache(CacheNames.NEWS_JSON).clear();
+    }
+
+    @BeforeEach
+    public void authenticate() {
+        TestSecurityContextHolder.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                userDetails, null, userDetails.getAuthorities()));
+    }
+
     // Methods tests
 
     @Test
@@ -53,12 +94,12 @@ public class NewsControllerTest {
         NewsFilter filter = new NewsFilter();
         filter.setPageSize(1);
         filter.setPageNumber(1);
-        List<News> foundNews = Collections.emptyList();
+        List<NewsSummary> foundNews = Collections.emptyList();
         NewsListResponse response = new NewsListResponse();
 
         Mockito.when(newsService.filterBy(filter))
                 .thenReturn(foundNews);
-        Mockito.when(newsMapper.newsListToNewsListResponse(foundNews))
+        Mockito.when(newsMapper.newsListToNewsListResponse(foundNews, filter.getPageSize()))
                 .thenReturn(response);
 
         mockMvc.perform(get("/api/v2/news/filter?pageSize={pageSize}&pageNumber={pageNumber}",
@@ -70,17 +111,69 @@ public class NewsControllerTest {
         Mockito.verify(newsService, Mockito.times(1))
                 .filterBy(filter);
         Mockito.verify(newsMapper, Mockito.times(1))
-                .newsListToNewsListResponse(foundNews);
+                .newsListToNewsListResponse(foundNews, filter.getPageSize());
+    }
+
+    @Test
+    @DisplayName("Test filterBy() with invalid cursor")
+    public void givenNewsFilterWithInvalidCursor_whenFilterBy_thenErrorResponse() throws Exception {
+        NewsFilter filter = new NewsFilter(1, 0, null, null, "invalid");
+
+        Mockito.when(newsService.filterBy(filter))
+                .thenThrow(new InvalidCursorException("Cursor 'invalid' is invalid"));
+
+        mockMvc.perform(get("/api/v2/news/filter?pageSize={pageSize}&pageNumber={pageNumber}&after={after}",
+                        filter.getPageSize(), filter.getPageNumber(), filter.getAfter()))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{'errorMessage': \"Cursor 'invalid' is invalid\"}"));
+
+        Mockito.verify(newsService, Mockito.times(1))
+                .filterBy(filter);
+    }
+
+    @Test
+    @DisplayName("Test search() status 200")
+    public void givenNewsSearchFilter_whenSearch_thenNewsListResponse() throws Exception {
+        NewsSearchFilter filter = new NewsSearchFilter("sapien", 10, null);
+        List<NewsSearchResult> foundNews = Collections.emptyList();
+        NewsListResponse response = new NewsListResponse();
+
+        Mockito.when(newsService.search(filter))
+                .thenReturn(foundNews);
+        Mockito.when(newsMapper.newsSearchResultsToNewsListResponse(foundNews, filter.getPageSize()))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/v2/news/search?q={q}&pageSize={pageSize}", filter.getQ(), filter.getPageSize()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{'news': []}"));
+
+        Mockito.verify(newsService, Mockito.times(1))
+                .search(filter);
+        Mockito.verify(newsMapper, Mockito.times(1))
+                .newsSearchResultsToNewsListResponse(foundNews, filter.getPageSize());
+    }
+
+    @Test
+    @DisplayName("Test search() with blank query")
+    public void givenBlankQuery_whenSearch_thenErrorResponse() throws Exception {
+        mockMvc.perform(get("/api/v2/news/search?q={q}&pageSize={pageSize}", " ", 10))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{'errorMessage': 'Search query must be specified'}"));
+
+        Mockito.verifyNoInteractions(newsService);
     }
 
     @Test
     @DisplayName("Test findById() status 200")
     public void givenId_whenFindById_thenNewsResponse() throws Exception {
         Long id = 1L;
-        News news = new News();
+        NewsView news = new NewsView(id, "content", 1L, 1L, null, null);
         NewsResponse response = createNewsResponse();
 
-        Mockito.when(newsService.findById(id))
+        Mockito.when(newsService.findViewById(id))
                 .thenReturn(news);
         Mockito.when(newsMapper.newsToResponse(news))
                 .thenReturn(response);
@@ -99,17 +192,99 @@ public class NewsControllerTest {
                 );
 
         Mockito.verify(newsService, Mockito.times(1))
-                .findById(id);
+                .findViewById(id);
         Mockito.verify(newsMapper, Mockito.times(1))
                 .newsToResponse(news);
     }
 
+    @Test
+    @DisplayName("Test findById() status 304 with matching ETag")
+    public void givenIdAndMatchingETag_whenFindById_thenNotModified() throws Exception {
+        Long id = 1L;
+        NewsView news = new NewsView(id, "content", 1L, 1L, null, null);
+        NewsResponse response = createNewsResponse();
+
+        Mockito.when(newsService.findViewById(id))
+                .thenReturn(news);
+        Mockito.when(newsMapper.newsToResponse(news))
+                .thenReturn(response);
+
+        MvcResult result = mockMvc.perform(get("/api/v2/news/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+
+        mockMvc.perform(get("/api/v2/news/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Test findById() status 304 with weak ETag")
+    public void givenIdAndWeakETag_whenFindById_thenNotModified() throws Exception {
+        Long id = 1L;
+        NewsView news = new NewsView(id, "content", 1L, 1L, null, null);
+        NewsResponse response = createNewsResponse();
+
+        Mockito.when(newsService.findViewById(id))
+                .thenReturn(news);
+        Mockito.when(newsMapper.newsToResponse(news))
+                .thenReturn(response);
+
+        MvcResult result = mockMvc.perform(get("/api/v2/news/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        mockMvc.perform(get("/api/v2/news/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH,
+                                "\"other\", W/" + result.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Test findById() status 304 with wildcard If-None-Match")
+    public void givenIdAndWildcardETag_whenFindById_thenNotModified() throws Exception {
+        Long id = 1L;
+        NewsView news = new NewsView(id, "content", 1L, 1L, null, null);
+        NewsResponse response = createNewsResponse();
+
+        Mockito.when(newsService.findViewById(id))
+                .thenReturn(news);
+        Mockito.when(newsMapper.newsToResponse(news))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/v2/news/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Test findById() status 200 with other ETag")
+    public void givenIdAndOtherETag_whenFindById_thenNewsResponse() throws Exception {
+        Long id = 1L;
+        NewsView news = new NewsView(id, "content", 1L, 1L, null, null);
+        NewsResponse response = createNewsResponse();
+
+        Mockito.when(newsService.findViewById(id))
+                .thenReturn(news);
+        Mockito.when(newsMapper.newsToResponse(news))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/v2/news/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
     @Test
     @DisplayName("Test findById() with nonexistent id")
     public void givenNonexistentId_whenFindById_thenErrorResponse() throws Exception {
         Long id = 1L;
 
-        Mockito.when(newsService.findById(id))
+        Mockito.when(newsService.findViewById(id))
                 .thenThrow(new EntityNotFoundException(String.format("News with id = '%d' not found", id)));
 
         mockMvc.perform(get("/api/v2/news/{id}", id))
@@ -118,7 +293,7 @@ public class NewsControllerTest {
                 .andExpect(content().json(String.format("{'errorMessage': \"News with id = '%d' not found\"}", id)));
 
         Mockito.verify(newsService, Mockito.times(1))
-                .findById(id);
+                .findViewById(id);
     }
 
     @Test
@@ -156,7 +331,7 @@ public class NewsControllerTest {
 
         Mockito.when(newsMapper.requestToNews(id, request))
                 .thenReturn(news);
-        Mockito.when(newsService.update(news))
+        Mockito.when(newsService.update(news, userDetails.getUser()))
                 .thenReturn(news);
 
         mockMvc.perform(put("/api/v2/news/{id}", id)
@@ -167,7 +342,7 @@ public class NewsControllerTest {
         Mockito.verify(newsMapper, Mockito.times(1))
                 .requestToNews(id, request);
         Mockito.verify(newsService, Mockito.times(1))
-                .update(news);
+                .update(news, userDetails.getUser());
     }
 
     @Test
@@ -180,7 +355,7 @@ public class NewsControllerTest {
 
         Mockito.when(newsMapper.requestToNews(id, request))
                 .thenReturn(news);
-        Mockito.when(newsService.update(news))
+        Mockito.when(newsService.update(news, userDetails.getUser()))
                 .thenThrow(new EntityNotFoundException(String.format("News with id = '%d' not found", id)));
 
         mockMvc.perform(put("/api/v2/news/{id}", id)
@@ -193,7 +368,7 @@ public class NewsControllerTest {
         Mockito.verify(newsMapper, Mockito.times(1))
                 .requestToNews(id, request);
         Mockito.verify(newsService, Mockito.times(1))
-                .update(news);
+                .update(news, userDetails.getUser());
     }
 
     @Test
@@ -205,7 +380,7 @@ public class NewsControllerTest {
                 .andExpect(status().isNoContent());
 
         Mockito.verify(newsService, Mockito.times(1))
-                .deleteById(id);
+                .deleteById(id, userDetails.getUser());
     }
 
     // Validation tests
@@ -300,15 +475,15 @@ public class NewsControllerTest {
 
     private static Stream<Arguments> invalidNewsFilterPageSize() {
         return Stream.of(
-                Arguments.of(new NewsFilter(0, 1, "category", "author")),
-                Arguments.of(new NewsFilter(-1, 1, "category", "author"))
+                Arguments.of(new NewsFilter(0, 1, "category", "author", null)),
+                Arguments.of(new NewsFilter(-1, 1, "category", "author", null))
         );
     }
 
     private static Stream<Arguments> invalidNewsFilterPageNumber() {
         return Stream.of(
-                Arguments.of(new NewsFilter(1, -1, "category", "author")),
-                Arguments.of(new NewsFilter(1, -1000, "category", "author"))
+                Arguments.of(new NewsFilter(1, -1, "category", "author", null)),
+                Arguments.of(new NewsFilter(1, -1000, "category", "author", null))
         );
     }
 
@@ -1,8 +1,18 @@
 package com.allitov.newsapi.web.controller.v2;
 
+import com.allitov.newsapi.exception.InvalidTokenException;
+import com.allitov.newsapi.exception.ServiceOverloadedException;
+import com.allitov.newsapi.model.data.RoleType;
 import com.allitov.newsapi.model.data.User;
+import com.allitov.newsapi.model.data.projection.UserView;
 import com.allitov.newsapi.model.service.UserService;
+import com.allitov.newsapi.security.TokenPair;
+import com.allitov.newsapi.security.TokenService;
+import com.allitov.newsapi.security.UserDetailsImpl;
+import com.allitov.newsapi.utils.AuthenticationPrincipalConfiguration;
+import com.allitov.newsapi.web.dto.request.user.RefreshTokenRequest;
 import com.allitov.newsapi.web.dto.request.user.UserRequest;
+import com.allitov.newsapi.web.dto.response.user.TokenResponse;
 import com.allitov.newsapi.web.dto.response.user.UserListResponse;
 import com.allitov.newsapi.web.dto.response.user.UserResponse;
 import com.allitov.newsapi.web.filter.UserFilter;
@@ -10,6 +20,7 @@ import com.allitov.newsapi.web.mapper.UserMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import net.bytebuddy.utility.RandomString;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -20,7 +31,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.test.context.TestSecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Instant;
@@ -33,6 +47,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(value = UserController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class)
+@Import(AuthenticationPrincipalConfiguration.class)
 public class UserControllerTest {
 
     @Autowired
@@ -47,6 +62,21 @@ public class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private TokenService tokenService;
+
+    private final UserDetailsImpl userDetails = new UserDetailsImpl(User.builder()
+            .id(1L)
+            .username("username")
+            .roles(Set.of(RoleType.USER))
+            .build());
+
+    @BeforeEach
+    public void authenticate() {
+        TestSecurityContextHolder.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                userDetails, null, userDetails.getAuthorities()));
+    }
+
     // Methods tests
 
     @Test
@@ -55,7 +85,7 @@ public class UserControllerTest {
         UserFilter filter = new UserFilter();
         filter.setPageSize(1);
         filter.setPageNumber(0);
-        List<User> foundUsers = Collections.emptyList();
+        List<UserView> foundUsers = Collections.emptyList();
         UserListResponse response = new UserListResponse();
 
         Mockito.when(userService.filterBy(filter))
@@ -79,10 +109,10 @@ public class UserControllerTest {
     @DisplayName("Test findById() status 200")
     public void givenId_whenFindById_thenUserResponse() throws Exception {
         Long id = 1L;
-        User user = new User();
+        UserView user = new UserView(id, "username", "email@email.com", null);
         UserResponse response = createUserResponse();
 
-        Mockito.when(userService.findById(id))
+        Mockito.when(userService.findViewById(id))
                 .thenReturn(user);
         Mockito.when(userMapper.userToResponse(user))
                 .thenReturn(response);
@@ -98,7 +128,7 @@ public class UserControllerTest {
                 );
 
         Mockito.verify(userService, Mockito.times(1))
-                .findById(id);
+                .findViewById(id);
         Mockito.verify(userMapper, Mockito.times(1))
                 .userToResponse(user);
     }
@@ -108,7 +138,7 @@ public class UserControllerTest {
     public void givenNonexistentId_whenFindById_thenErrorResponse() throws Exception {
         Long id = 1L;
 
-        Mockito.when(userService.findById(id))
+        Mockito.when(userService.findViewById(id))
                 .thenThrow(new EntityNotFoundException(String.format("User with id = '%d' not found", id)));
 
         mockMvc.perform(get("/api/v2/user/{id}", id))
@@ -117,7 +147,7 @@ public class UserControllerTest {
                 .andExpect(content().json(String.format("{'errorMessage': \"User with id = '%d' not found\"}", id)));
 
         Mockito.verify(userService, Mockito.times(1))
-                .findById(id);
+                .findViewById(id);
     }
 
     @Test
@@ -145,6 +175,65 @@ public class UserControllerTest {
                 .createNewAccount(user);
     }
 
+    @Test
+    @DisplayName("Test create() status 503")
+    public void givenUserRequestAndOverloadedHashing_whenCreate_thenErrorResponse() throws Exception {
+        UserRequest request = createUserRequest();
+        User user = new User();
+
+        Mockito.when(userMapper.requestToUser(request))
+                .thenReturn(user);
+        Mockito.when(userService.createNewAccount(user))
+                .thenThrow(new ServiceOverloadedException("Too many sign-up requests, try again later"));
+
+        mockMvc.perform(post("/api/v2/user/sign-up")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{'errorMessage': 'Too many sign-up requests, try again later'}"));
+    }
+
+    @Test
+    @DisplayName("Test refreshToken() status 200")
+    public void givenRefreshTokenRequest_whenRefreshToken_thenTokenResponse() throws Exception {
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh");
+        TokenPair tokenPair = new TokenPair("access", "refresh", Instant.ofEpochSecond(900));
+        TokenResponse response = new TokenResponse("access", "refresh", Instant.ofEpochSecond(900));
+
+        Mockito.when(tokenService.refresh(request.getRefreshToken()))
+                .thenReturn(tokenPair);
+        Mockito.when(userMapper.tokenPairToResponse(tokenPair))
+                .thenReturn(response);
+
+        mockMvc.perform(post("/api/v2/user/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(objectMapper.writeValueAsString(response)));
+
+        Mockito.verify(tokenService, Mockito.times(1))
+                .refresh(request.getRefreshToken());
+    }
+
+    @Test
+    @DisplayName("Test refreshToken() with invalid refresh token")
+    public void givenInvalidRefreshTokenRequest_whenRefreshToken_thenErrorResponse() throws Exception {
+        RefreshTokenRequest request = new RefreshTokenRequest("invalid");
+
+        Mockito.when(tokenService.refresh(request.getRefreshToken()))
+                .thenThrow(new InvalidTokenException("Token is invalid or expired"));
+
+        mockMvc.perform(post("/api/v2/user/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{'errorMessage': 'Token is invalid or expired'}"));
+    }
+
     @Test
     @DisplayName("Test updateById() status 204")
     public void givenIdAndUserRequest_whenUpdateById_thenVoid() throws Exception {
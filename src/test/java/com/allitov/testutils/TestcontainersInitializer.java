@@ -7,6 +7,8 @@ import org.testcontainers.containers.PostgreSQLContainer;
 
 public class TestcontainersInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
 
+    private static final String TOKEN_SECRET = "sFcbeayMmrRS6y/+3VFBzEsUlQgvJbzEdUfggmVZsik=";
+
     private static final PostgreSQLContainer<?> POSTGRES =
             new PostgreSQLContainer<>("postgres:16");
 
@@ -23,7 +25,8 @@ public class TestcontainersInitializer implements ApplicationContextInitializer<
                 "spring.datasource.password=" + POSTGRES.getPassword(),
                 "spring.datasource.hikari.schema=news_schema",
                 "spring.datasource.hikari.connection-init-sql=CREATE SCHEMA IF NOT EXISTS news_schema;",
-                "spring.datasource.hikari.connection-timeout=10000"
+                "spring.datasource.hikari.connection-timeout=10000",
+                "app.security.token.secret=" + TOKEN_SECRET
         ).applyTo(applicationContext.getEnvironment());
     }
 }
@@ -1,57 +1,11 @@
-DROP TABLE IF EXISTS news_schema.comments;
-DROP TABLE IF EXISTS news_schema.news;
-DROP TABLE IF EXISTS news_schema.news_categories;
-DROP TABLE IF EXISTS news_schema.user_roles;
-DROP TABLE IF EXISTS news_schema.users;
+TRUNCATE TABLE news_schema.comments, news_schema.news, news_schema.news_categories, news_schema.users
+    RESTART IDENTITY CASCADE;
 
-CREATE TABLE IF NOT EXISTS news_schema.users (
-    id BIGSERIAL PRIMARY KEY,
-    username VARCHAR(50) NOT NULL,
-    email VARCHAR(256) NOT NULL,
-    password VARCHAR(256) NOT NULL,
-    registration_date TIMESTAMP NOT NULL
-);
-
-CREATE TABLE IF NOT EXISTS news_schema.news_categories (
-    id BIGSERIAL PRIMARY KEY,
-    category_name VARCHAR(50) NOT NULL
-);
-
-CREATE TABLE IF NOT EXISTS news_schema.news (
-    id BIGSERIAL PRIMARY KEY,
-    content TEXT NOT NULL,
-    creation_date TIMESTAMP NOT NULL,
-    last_update TIMESTAMP NOT NULL,
-    author_id BIGINT NOT NULL,
-    category_id BIGINT NOT NULL,
-    FOREIGN KEY (author_id) REFERENCES news_schema.users(id) ON DELETE CASCADE,
-    FOREIGN KEY (category_id) REFERENCES news_schema.news_categories(id) ON DELETE CASCADE
-);
-
-CREATE TABLE IF NOT EXISTS news_schema.comments (
-    id BIGSERIAL PRIMARY KEY,
-    content TEXT NOT NULL,
-    creation_date TIMESTAMP NOT NULL,
-    last_update TIMESTAMP NOT NULL,
-    news_id BIGINT NOT NULL,
-    author_id BIGINT NOT NULL,
-    FOREIGN KEY (news_id) REFERENCES news_schema.news(id) ON DELETE CASCADE,
-    FOREIGN KEY (author_id) REFERENCES news_schema.users(id) ON DELETE CASCADE
-);
-
-CREATE TABLE IF NOT EXISTS news_schema.user_roles (
-    user_id BIGINT NOT NULL,
-    roles VARCHAR(20) NOT NULL,
-    CHECK (((roles)::text = ANY ((ARRAY['USER'::character varying, 'ADMIN'::character varying, 'MODERATOR'::character varying])::text[]))),
-    PRIMARY KEY (user_id, roles),
-    FOREIGN KEY (user_id) REFERENCES news_schema.users(id) ON DELETE CASCADE
-);
-
-insert into news_schema.users (username, email, password, registration_date) values ('Garek Simper', 'gsimper0@dropbox.com', '$2a$04$5ZDXOb3IHiy5w4laMT7vh.umbLCzxNkT3xJMAm5zo0oi0idceAtca', '2023-06-30 15:03:20');
-insert into news_schema.users (username, email, password, registration_date) values ('Nial Lodemann', 'nlodemann1@state.gov', '$2a$04$AzvbtdT2NT0ZrdlDakJgduIstaoKmgClLWWAplob4PHHzy9RLDRUi', '2023-01-28 03:00:27');
-insert into news_schema.users (username, email, password, registration_date) values ('Emmey Crossland', 'ecrossland2@canalblog.com', '$2a$04$rqJC3hO/U8pubX4s9KypqejEbhMSlnxp16jtJsVr1soQT8hrSC5dK', '2023-06-08 19:53:03');
-insert into news_schema.users (username, email, password, registration_date) values ('Chas Sapshed', 'csapshed3@noaa.gov', '$2a$04$EylmMDBQWbcA1Vi0q8msQOog7ROi70WiKDhno.jsHvvErI.0vZU.O', '2022-12-13 01:10:09');
-insert into news_schema.users (username, email, password, registration_date) values ('Fina Sugden', 'fsugden4@nymag.com', '$2a$04$f18HajB3iSvy0dXqS403UuULcxm624fmwMzMSQ8qaJl3xRRcUw4Yu', '2023-04-14 06:02:56');
+insert into news_schema.users (username, email, password, registration_date, roles) values ('Garek Simper', 'gsimper0@dropbox.com', '$2a$04$5ZDXOb3IHiy5w4laMT7vh.umbLCzxNkT3xJMAm5zo0oi0idceAtca', '2023-06-30 15:03:20', 7);
+insert into news_schema.users (username, email, password, registration_date, roles) values ('Nial Lodemann', 'nlodemann1@state.gov', '$2a$04$AzvbtdT2NT0ZrdlDakJgduIstaoKmgClLWWAplob4PHHzy9RLDRUi', '2023-01-28 03:00:27', 6);
+insert into news_schema.users (username, email, password, registration_date, roles) values ('Emmey Crossland', 'ecrossland2@canalblog.com', '$2a$04$rqJC3hO/U8pubX4s9KypqejEbhMSlnxp16jtJsVr1soQT8hrSC5dK', '2023-06-08 19:53:03', 2);
+insert into news_schema.users (username, email, password, registration_date, roles) values ('Chas Sapshed', 'csapshed3@noaa.gov', '$2a$04$EylmMDBQWbcA1Vi0q8msQOog7ROi70WiKDhno.jsHvvErI.0vZU.O', '2022-12-13 01:10:09', 2);
+insert into news_schema.users (username, email, password, registration_date, roles) values ('Fina Sugden', 'fsugden4@nymag.com', '$2a$04$f18HajB3iSvy0dXqS403UuULcxm624fmwMzMSQ8qaJl3xRRcUw4Yu', '2023-04-14 06:02:56', 2);
 
 insert into news_schema.news_categories (category_name) values ('CDL');
 insert into news_schema.news_categories (category_name) values ('PK/PD');
@@ -71,11 +25,4 @@ insert into news_schema.comments (content, creation_date, last_update, news_id,
 insert into news_schema.comments (content, creation_date, last_update, news_id, author_id) values ('In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet. Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui. Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '2023-10-15 11:21:35', '2023-02-09 19:41:29', 5, 4);
 insert into news_schema.comments (content, creation_date, last_update, news_id, author_id) values ('Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis. Sed ante. Vivamus tortor. Duis mattis egestas metus. Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '2023-08-12 07:31:52', '2023-06-03 21:50:53', 1, 1);
 
-insert into news_schema.user_roles (user_id, roles) values (1, 'ADMIN');
-insert into news_schema.user_roles (user_id, roles) values (1, 'MODERATOR');
-insert into news_schema.user_roles (user_id, roles) values (1, 'USER');
-insert into news_schema.user_roles (user_id, roles) values (2, 'MODERATOR');
-insert into news_schema.user_roles (user_id, roles) values (2, 'USER');
-insert into news_schema.user_roles (user_id, roles) values (3, 'USER');
-insert into news_schema.user_roles (user_id, roles) values (4, 'USER');
-insert into news_schema.user_roles (user_id, roles) values (5, 'USER');
\ No newline at end of file
+update news_schema.news n set comments_count = (select count(*) from news_schema.comments c where c.news_id = n.id);
\ No newline at end of file